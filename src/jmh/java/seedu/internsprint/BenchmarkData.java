@@ -0,0 +1,69 @@
+package seedu.internsprint;
+
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+
+import java.time.LocalDate;
+
+/**
+ * Builds the internship lists that the benchmarks run against.
+ * The same count always gives the same internships, so results from different runs can be compared.
+ */
+public final class BenchmarkData {
+    private static final String[] COMPANIES = {"Google", "Meta", "Shopee", "Grab", "Apple", "Microsoft", "Amazon",
+        "Nvidia", "Intel", "AMD", "Sea", "ByteDance", "Stripe", "Visa", "DBS", "OCBC", "Micron", "Dyson"};
+    private static final String[] ROLES = {"Software Engineer", "Data Analyst", "Hardware Engineer",
+        "Product Manager", "Firmware Engineer", "Machine Learning Engineer", "QA Engineer", "Designer"};
+    private static final LocalDate FIRST_INTERVIEW_DATE = LocalDate.of(2025, 1, 1);
+    private static final int INTERVIEW_DAYS = 365;
+    private static final int INTERVIEW_HOURS = 8;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns a list of internships of every type, each with one interview.
+     *
+     * @param count Number of internships.
+     * @return List of internships.
+     */
+    public static InternshipList createInternships(int count) {
+        InternshipList internships = new InternshipList();
+        try {
+            for (int i = 0; i < count; i++) {
+                Internship internship = createInternship(i);
+                internships.addInternship(internship);
+                internships.addInterview(internship, createInterview(i));
+            }
+        } catch (DuplicateEntryException e) {
+            throw new IllegalStateException("Benchmark data should not contain duplicates", e);
+        }
+        internships.clearPendingChanges();
+        return internships;
+    }
+
+    private static Internship createInternship(int i) {
+        String companyName = COMPANIES[i % COMPANIES.length] + " " + (i / COMPANIES.length);
+        String role = ROLES[i % ROLES.length];
+        switch (i % 3) {
+        case 0:
+            return new SoftwareInternship(companyName, role, "Java, Python");
+        case 1:
+            return new HardwareInternship(companyName, role, "Arduino");
+        default:
+            return new GeneralInternship(companyName, role, "Operations");
+        }
+    }
+
+    private static Interview createInterview(int i) {
+        String date = FIRST_INTERVIEW_DATE.plusDays(i % INTERVIEW_DAYS).toString();
+        int startHour = 9 + (i / INTERVIEW_DAYS) % INTERVIEW_HOURS;
+        return new Interview(date, String.format("%02d:00", startHour), String.format("%02d:45", startHour),
+                "technical");
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.internsprint.BenchmarkData;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding internships by company name and by role.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int internshipCount;
+
+    private InternshipList internships;
+    private UserProfile user;
+
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.createInternships(internshipCount);
+        user = new UserProfile();
+    }
+
+    @Benchmark
+    public CommandResult findByCompanyName() {
+        return createFindCommand("/c", "shopee 1").execute(internships, user);
+    }
+
+    @Benchmark
+    public CommandResult findByCompanyNameAndRole() {
+        FindCommand command = createFindCommand("/c", "google");
+        command.getParameters().put("/r", "engineer");
+        return command.execute(internships, user);
+    }
+
+    private static FindCommand createFindCommand(String flag, String value) {
+        FindCommand command = new FindCommand();
+        HashMap<String, String> parameters = new HashMap<>();
+        parameters.put(flag, value);
+        command.setParameters(parameters);
+        return command;
+    }
+}
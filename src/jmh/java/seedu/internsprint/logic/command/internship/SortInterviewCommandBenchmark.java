@@ -0,0 +1,52 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import seedu.internsprint.BenchmarkData;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures listing every interview in order, and listing the interviews of one week.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortInterviewCommandBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int internshipCount;
+
+    private InternshipList internships;
+    private UserProfile user;
+
+    @Setup
+    public void setUp() {
+        internships = BenchmarkData.createInternships(internshipCount);
+        user = new UserProfile();
+    }
+
+    @Benchmark
+    public CommandResult sortAllInterviews() {
+        return new SortInterviewCommand().execute(internships, user);
+    }
+
+    @Benchmark
+    public CommandResult sortInterviewsInOneWeek() {
+        SortInterviewCommand command = new SortInterviewCommand();
+        HashMap<String, String> parameters = new HashMap<>();
+        parameters.put("/from", "2025-03-03");
+        parameters.put("/to", "2025-03-09");
+        command.setParameters(parameters);
+        return command.execute(internships, user);
+    }
+}
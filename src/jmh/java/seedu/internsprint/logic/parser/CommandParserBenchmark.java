@@ -0,0 +1,34 @@
+package seedu.internsprint.logic.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import seedu.internsprint.logic.command.Command;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing user input into commands, from a command with no parameters to one with many flags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandParserBenchmark {
+    @Param({
+        "list",
+        "find software /c google /r engineer",
+        "add software /c Google /r Software Engineer /tech Java, Python, SQL",
+        "interview for /index 12 /date 2025-05-01 /start 10:00 /end 11:00 /type technical "
+            + "/email hr@google.com /notes Bring a laptop"
+    })
+    private String userInput;
+
+    @Benchmark
+    public Command parseCommand() {
+        return CommandParser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.internsprint.logic.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing dates, both in the numeric formats that are parsed directly and in natural language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimeParserBenchmark {
+    @Param({"2025-05-01", "5/1/2025", "next friday", "1 May 2025"})
+    private String dateInput;
+
+    @Benchmark
+    public LocalDate parseDateInput() {
+        return DateTimeParser.parseDateInput(dateInput);
+    }
+}
@@ -0,0 +1,292 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes a synthetic set of data files for load testing, in the same format that InternSprint saves them.
+ * <p>
+ * Company names follow a Zipf distribution, so that a few companies have many internships and most have
+ * only a few, as in a real list. Each internship is written as soon as it is generated, so files with
+ * millions of entries are written in constant memory. The same seed always gives the same files.
+ * <p>
+ * Usage: {@code DatasetGenerator [--internships N] [--interviews N] [--max-rounds N] [--projects N]
+ * [--seed N] [--output DIRECTORY] [--overwrite]}
+ */
+public class DatasetGenerator {
+    private static final int COMPANY_COUNT = 1000;
+    private static final double ZIPF_EXPONENT = 1.07;
+    private static final String[] COMPANY_PREFIXES = {"Nova", "Blue", "Quantum", "Apex", "Bright", "Cedar", "Delta",
+        "Echo", "Falcon", "Granite", "Harbor", "Iron", "Jade", "Kite", "Lumen", "Maple", "North", "Orbit", "Pixel",
+        "Quartz", "River", "Summit", "Tidal", "Umbra", "Vertex", "Willow", "Xenon", "Yonder", "Zenith", "Aurora",
+        "Beacon", "Cobalt", "Drift", "Ember", "Flux", "Glacier", "Helix", "Indigo", "Juniper", "Keystone"};
+    private static final String[] COMPANY_SUFFIXES = {"Labs", "Systems", "Technologies", "Robotics", "Analytics",
+        "Networks", "Dynamics", "Software", "Semiconductors", "Capital", "Health", "Logistics", "Energy", "Media",
+        "Security", "Devices", "Cloud", "Games", "Foods", "Motors", "Bank", "Studios", "Materials", "AI", "Works"};
+    private static final String[] SOFTWARE_ROLES = {"Software Engineer", "Backend Engineer", "Frontend Engineer",
+        "Data Engineer", "Machine Learning Engineer", "Site Reliability Engineer", "Mobile Developer"};
+    private static final String[] HARDWARE_ROLES = {"Hardware Engineer", "Firmware Engineer", "FPGA Engineer",
+        "Embedded Systems Engineer", "Test Engineer", "Chip Design Engineer"};
+    private static final String[] GENERAL_ROLES = {"Product Manager", "Business Analyst", "Operations Analyst",
+        "Marketing Associate", "UX Designer", "Finance Analyst", "Human Resource"};
+    private static final String[] TECH_STACKS = {"Java", "Python", "C++", "Go", "Rust", "TypeScript", "React",
+        "SQL", "Kotlin", "AWS", "Docker", "Kubernetes", "Spark", "PyTorch"};
+    private static final String[] HARDWARE_TECH = {"Arduino", "Verilog", "VHDL", "ARM Cortex", "RTOS", "PCB Design",
+        "Raspberry Pi", "Oscilloscopes", "FPGA", "SystemVerilog"};
+    private static final String[] DEPARTMENTS = {"Operations", "Marketing", "Finance", "Strategy", "HR", "Sales"};
+    private static final String[] STATUSES = {"Application Pending", "Application Completed", "Interviewing",
+        "Offered", "Rejected"};
+    private static final String[] WORDS = {"build", "scalable", "services", "team", "customers", "data", "design",
+        "testing", "research", "ownership", "mentorship", "fast", "paced", "learning", "impact", "product",
+        "platform", "reliable", "analytics", "collaborate", "students", "year", "degree", "experience"};
+    private static final String[] INTERVIEW_TYPES = {"technical", "behavioural", "hr", "coding", "case study"};
+    private static final LocalDate FIRST_INTERVIEW_DATE = LocalDate.of(2025, 1, 1);
+
+    private final Random random;
+    private final double[] companyCumulativeWeights = new double[COMPANY_COUNT];
+    private final int[] internshipsPerCompany = new int[COMPANY_COUNT];
+
+    /**
+     * Creates a generator whose output depends only on the seed.
+     *
+     * @param seed Seed of the random numbers.
+     */
+    public DatasetGenerator(long seed) {
+        random = new Random(seed);
+        double totalWeight = 0;
+        for (int rank = 0; rank < COMPANY_COUNT; rank++) {
+            totalWeight += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            companyCumulativeWeights[rank] = totalWeight;
+        }
+        for (int rank = 0; rank < COMPANY_COUNT; rank++) {
+            companyCumulativeWeights[rank] /= totalWeight;
+        }
+    }
+
+    /**
+     * Writes the data files.
+     *
+     * @param args Options as described in the class documentation.
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = Arrays.asList(args);
+        int internshipCount = getIntOption(arguments, "--internships", 1000);
+        int interviewCount = getIntOption(arguments, "--interviews", internshipCount / 2);
+        int maxRounds = getIntOption(arguments, "--max-rounds", 4);
+        int projectCount = getIntOption(arguments, "--projects", 20);
+        long seed = getIntOption(arguments, "--seed", 42);
+        File directory = new File(getOption(arguments, "--output", "data"));
+        boolean canOverwrite = arguments.contains("--overwrite");
+        if (interviewCount > internshipCount || maxRounds < 1) {
+            throw new IllegalArgumentException("There can be at most one interview per internship, "
+                    + "with at least one round each");
+        }
+
+        File internshipFile = new File(directory, "internships.txt");
+        File interviewFile = new File(directory, "interviews.txt");
+        File projectFile = new File(directory, "projects.txt");
+        for (File file : List.of(internshipFile, interviewFile, projectFile)) {
+            if (file.length() > 0 && !canOverwrite) {
+                throw new IllegalStateException(file.getPath() + " already has data. Pass --overwrite to replace it.");
+            }
+        }
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+        }
+
+        DatasetGenerator generator = new DatasetGenerator(seed);
+        generator.writeInternships(internshipFile, interviewFile, internshipCount, interviewCount, maxRounds);
+        generator.writeProjects(projectFile, projectCount);
+        System.out.printf("Wrote %d internships, %d interviews and %d projects to %s%n", internshipCount,
+                interviewCount, projectCount, directory.getAbsolutePath());
+    }
+
+    /**
+     * Writes the internships, and the interviews of the first internships, to their files.
+     *
+     * @param internshipFile File to write the internships to.
+     * @param interviewFile File to write the interviews to.
+     * @param internshipCount Number of internships.
+     * @param interviewCount Number of internships with an interview.
+     * @param maxRounds Largest number of rounds in one interview.
+     */
+    public void writeInternships(File internshipFile, File interviewFile, int internshipCount, int interviewCount,
+                                 int maxRounds) throws IOException {
+        // Interviews are spread over the internships instead of going to the first ones.
+        double interviewChance = internshipCount == 0 ? 0 : (double) interviewCount / internshipCount;
+        int interviewsLeft = interviewCount;
+        try (JsonArrayStreamWriter internshipWriter = new JsonArrayStreamWriter(internshipFile);
+             JsonArrayStreamWriter interviewWriter = new JsonArrayStreamWriter(interviewFile)) {
+            for (int internshipId = 0; internshipId < internshipCount; internshipId++) {
+                Internship internship = createInternship(internshipId);
+                internshipWriter.write(internship.toJson());
+
+                int internshipsLeft = internshipCount - internshipId;
+                if (interviewsLeft == internshipsLeft
+                        || (interviewsLeft > 0 && random.nextDouble() < interviewChance)) {
+                    interviewWriter.write(createInterview(internshipId, maxRounds).toJson());
+                    interviewsLeft--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes projects of every type to the file.
+     *
+     * @param projectFile File to write the projects to.
+     * @param projectCount Number of projects.
+     */
+    public void writeProjects(File projectFile, int projectCount) throws IOException {
+        try (JsonArrayStreamWriter projectWriter = new JsonArrayStreamWriter(projectFile)) {
+            for (int i = 0; i < projectCount; i++) {
+                projectWriter.write(createProject(i).toJson());
+            }
+        }
+    }
+
+    private Internship createInternship(int internshipId) {
+        int companyRank = pickCompanyRank();
+        String companyName = COMPANY_PREFIXES[companyRank % COMPANY_PREFIXES.length] + " "
+                + COMPANY_SUFFIXES[companyRank / COMPANY_PREFIXES.length];
+        // Internships at the same company get different roles, so that no two are duplicates.
+        int companyInternshipIndex = internshipsPerCompany[companyRank]++;
+
+        Internship internship;
+        double typeChoice = random.nextDouble();
+        if (typeChoice < 0.5) {
+            internship = new SoftwareInternship(companyName, pickRole(SOFTWARE_ROLES, companyInternshipIndex),
+                    pickSeveral(TECH_STACKS, 3), pickSentence(), pickSentence(), pickOne(STATUSES), pickSentence());
+        } else if (typeChoice < 0.7) {
+            internship = new HardwareInternship(companyName, pickRole(HARDWARE_ROLES, companyInternshipIndex),
+                    pickSeveral(HARDWARE_TECH, 2), pickSentence(), pickSentence(), pickOne(STATUSES), pickSentence());
+        } else {
+            internship = new GeneralInternship(companyName, pickRole(GENERAL_ROLES, companyInternshipIndex),
+                    pickOne(DEPARTMENTS), pickSentence(), pickSentence(), pickOne(STATUSES), pickSentence());
+        }
+        internship.setInternshipId(internshipId);
+        return internship;
+    }
+
+    /**
+     * Creates an interview with one or more rounds, each on a later date than the one before.
+     */
+    private Interview createInterview(int internshipId, int maxRounds) {
+        int roundCount = 1;
+        while (roundCount < maxRounds && random.nextDouble() < 0.5) {
+            roundCount++;
+        }
+        LocalDate date = FIRST_INTERVIEW_DATE.plusDays(random.nextInt(365));
+        Interview interview = createInterviewRound(date);
+        interview.setInternshipId(internshipId);
+        try {
+            for (int round = 1; round < roundCount; round++) {
+                date = date.plusDays(1 + random.nextInt(14));
+                interview.addInterviewRound(createInterviewRound(date));
+            }
+        } catch (DuplicateEntryException e) {
+            throw new IllegalStateException("Rounds on different dates should not be duplicates", e);
+        }
+        return interview;
+    }
+
+    private Interview createInterviewRound(LocalDate date) {
+        LocalTime start = LocalTime.of(9 + random.nextInt(8), random.nextBoolean() ? 0 : 30);
+        LocalTime end = start.plusMinutes(30L * (1 + random.nextInt(4)));
+        String email = random.nextBoolean() ? "recruiter" + random.nextInt(10000) + "@example.com" : null;
+        String notes = random.nextInt(3) == 0 ? pickSentence() : null;
+        return new Interview(date.toString(), start.toString(), end.toString(), pickOne(INTERVIEW_TYPES),
+                email, notes);
+    }
+
+    private Project createProject(int i) {
+        String projectName = "Project " + (i + 1);
+        String duration = (1 + random.nextInt(12)) + " months";
+        switch (i % 3) {
+        case 0:
+            return new SoftwareProject(projectName, pickOne(SOFTWARE_ROLES), List.of(pickSeveral(TECH_STACKS, 2)
+                    .split(", ")), pickSentence(), pickSentence(), duration);
+        case 1:
+            return new HardwareProject(projectName, pickOne(HARDWARE_ROLES), List.of(pickSeveral(HARDWARE_TECH, 2)
+                    .split(", ")), pickSentence(), pickSentence(), duration);
+        default:
+            return new GeneralProject(projectName, pickOne(GENERAL_ROLES), pickOne(DEPARTMENTS), pickSentence(),
+                    pickSentence(), duration);
+        }
+    }
+
+    /**
+     * Picks the rank of a company, where the company of rank r is picked in proportion to 1 / r^s.
+     */
+    private int pickCompanyRank() {
+        int rank = Arrays.binarySearch(companyCumulativeWeights, random.nextDouble());
+        return Math.min(rank < 0 ? -rank - 1 : rank, COMPANY_COUNT - 1);
+    }
+
+    private static String pickRole(String[] roles, int companyInternshipIndex) {
+        String role = roles[companyInternshipIndex % roles.length];
+        int cohort = companyInternshipIndex / roles.length;
+        return cohort == 0 ? role : role + " " + (cohort + 1);
+    }
+
+    private String pickOne(String[] options) {
+        return options[random.nextInt(options.length)];
+    }
+
+    private String pickSeveral(String[] options, int maxCount) {
+        int count = 1 + random.nextInt(maxCount);
+        int first = random.nextInt(options.length);
+        StringBuilder picked = new StringBuilder(options[first]);
+        for (int i = 1; i < count; i++) {
+            picked.append(", ").append(options[(first + i) % options.length]);
+        }
+        return picked.toString();
+    }
+
+    private String pickSentence() {
+        int wordCount = 4 + random.nextInt(8);
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(pickOne(WORDS));
+        }
+        return sentence.toString();
+    }
+
+    private static String getOption(List<String> arguments, String option, String defaultValue) {
+        int index = arguments.indexOf(option);
+        if (index < 0) {
+            return defaultValue;
+        }
+        if (index + 1 >= arguments.size()) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return arguments.get(index + 1);
+    }
+
+    private static int getIntOption(List<String> arguments, String option, int defaultValue) {
+        int value = Integer.parseInt(getOption(arguments, option, String.valueOf(defaultValue)));
+        if (value < 0) {
+            throw new IllegalArgumentException(option + " should not be negative");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.internsprint.storage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import seedu.internsprint.BenchmarkData;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving internships to a data file and loading them back.
+ * The benchmark uses its own temporary file, so the data files of the application are never touched.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InternshipStorageBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int internshipCount;
+
+    private File dataFile;
+    private InternshipStorageHandler storageHandler;
+    private InternshipList internships;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataFile = Files.createTempFile("internships", ".txt").toFile();
+        storageHandler = new InternshipStorageHandler(dataFile);
+        internships = BenchmarkData.createInternships(internshipCount);
+        storageHandler.save(internships);
+        if (dataFile.length() == 0) {
+            throw new IllegalStateException("Internships were not saved to " + dataFile.getAbsolutePath());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (!dataFile.delete()) {
+            dataFile.deleteOnExit();
+        }
+    }
+
+    @Benchmark
+    public File save() throws IOException {
+        storageHandler.save(internships);
+        return dataFile;
+    }
+
+    @Benchmark
+    public CommandResult load() {
+        return storageHandler.load(new InternshipList());
+    }
+}
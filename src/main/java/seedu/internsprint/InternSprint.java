@@ -1,5 +1,6 @@
 package seedu.internsprint;
 
+import seedu.internsprint.events.CommandExecuteEvent;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.logic.parser.CommandParser;
@@ -7,17 +8,33 @@ import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.storage.StorageManager;
 import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.MetricsRegistry;
 import seedu.internsprint.util.Ui;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
+import static seedu.internsprint.util.InternSprintExceptionMessages.INVALID_LAUNCH_ARGUMENTS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_METRICS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.WRITE_BEHIND_FAILED;
+
 
 /**
  * Entry point of the InternSprint application.
  */
 public class InternSprint {
     private static final Logger logger = InternSprintLogger.getLogger();
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static Path metricsPath;
     private final StorageManager storageManager;
     private final InternshipList internships;
     private final UserProfile user;
@@ -30,10 +47,81 @@ public class InternSprint {
 
     /**
      * Main entry-point for the InternSprint application.
+     * Passing {@code --journal} saves changes to internships by appending them to a journal instead of
+     * rewriting the data files after every command. The data files are rewritten and the journal emptied once
+     * it holds 200 records, or N records if {@code --journal-checkpoint N} is also passed.
+     * Passing {@code --script FILE} runs the commands in the file instead of reading them from the user, and
+     * saves once after the last command, or after every N commands if {@code --checkpoint N} is also passed.
+     * Passing {@code --metrics FILE} writes the time taken by each command and each save and load to the file
+     * as JSON when the program exits.
+     * Passing {@code --write-behind} saves changes on a background thread shortly after each burst of commands,
+     * instead of before the next prompt is shown.
+     * Passing {@code --snapshot} saves internships, interviews and projects as compact binary snapshots instead
+     * of JSON. Without it, data files saved as snapshots are converted back to JSON the next time they are saved.
      */
     public static void main(String[] args) {
         InternSprintLogger.getLogger();
-        new InternSprint().run();
+        List<String> arguments = Arrays.asList(args);
+        StorageManager.getInstance().setJournalEnabled(arguments.contains("--journal"));
+        StorageManager.getInstance().setWriteBehindEnabled(arguments.contains("--write-behind"));
+        StorageManager.getInstance().setSnapshotEnabled(arguments.contains("--snapshot"));
+        if (arguments.contains("--journal-checkpoint")) {
+            try {
+                int journalCheckpointInterval = Integer.parseInt(getArgumentValue(arguments, "--journal-checkpoint"));
+                if (journalCheckpointInterval <= 0) {
+                    throw new IllegalArgumentException(INVALID_LAUNCH_ARGUMENTS);
+                }
+                StorageManager.getInstance().setJournalCheckpointInterval(journalCheckpointInterval);
+            } catch (IllegalArgumentException e) {
+                Ui.showError(INVALID_LAUNCH_ARGUMENTS);
+                return;
+            }
+        }
+        if (arguments.contains("--metrics")) {
+            try {
+                metricsPath = Paths.get(getArgumentValue(arguments, "--metrics"));
+            } catch (IllegalArgumentException e) {
+                Ui.showError(INVALID_LAUNCH_ARGUMENTS);
+                return;
+            }
+        }
+        if (!arguments.contains("--script")) {
+            new InternSprint().run();
+            return;
+        }
+
+        Path scriptPath;
+        int checkpointInterval;
+        try {
+            scriptPath = Paths.get(getArgumentValue(arguments, "--script"));
+            checkpointInterval = arguments.contains("--checkpoint")
+                ? Integer.parseInt(getArgumentValue(arguments, "--checkpoint"))
+                : 0;
+        } catch (IllegalArgumentException e) {
+            Ui.showError(INVALID_LAUNCH_ARGUMENTS);
+            return;
+        }
+        if (checkpointInterval < 0) {
+            Ui.showError(INVALID_LAUNCH_ARGUMENTS);
+            return;
+        }
+        new InternSprint().runScript(scriptPath, checkpointInterval);
+    }
+
+    /**
+     * Returns the argument that follows the given option.
+     *
+     * @param arguments Arguments the program was launched with.
+     * @param option Option whose value is to be returned.
+     * @return Value of the option.
+     * @throws IllegalArgumentException If the option is the last argument.
+     */
+    private static String getArgumentValue(List<String> arguments, String option) {
+        int valueIndex = arguments.indexOf(option) + 1;
+        if (valueIndex >= arguments.size()) {
+            throw new IllegalArgumentException(INVALID_LAUNCH_ARGUMENTS);
+        }
+        return arguments.get(valueIndex);
     }
 
     /**
@@ -47,14 +135,57 @@ public class InternSprint {
     }
 
     /**
-     * Loads data from storage.
+     * Runs the commands in a script file until the file ends or a bye command is reached.
+     * Saves are deferred while the script runs, so that the data files are written once at the end, or once
+     * every {@code checkpointInterval} commands if it is positive. Output is buffered and written out in
+     * large blocks instead of line by line.
+     *
+     * @param scriptPath Path of the script file, with one command per line.
+     * @param checkpointInterval Number of commands between saves, or 0 to save only at the end.
+     */
+    public void runScript(Path scriptPath, int checkpointInterval) {
+        logger.log(Level.INFO, () -> "Running script " + scriptPath);
+        Ui.useBufferedOutput();
+        storageManager.setSavingDeferred(true);
+        if (!loadData()) {
+            exit();
+            return;
+        }
+
+        int commandsSinceCheckpoint = 0;
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            boolean isExit = false;
+            String line;
+            while (!isExit && (line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                isExit = executeUserCommand(line);
+                commandsSinceCheckpoint++;
+                if (checkpointInterval > 0 && commandsSinceCheckpoint == checkpointInterval) {
+                    flushDeferredSaves();
+                    commandsSinceCheckpoint = 0;
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading script file");
+            Ui.showError(String.format(UNABLE_TO_READ_FILE, scriptPath.toAbsolutePath()));
+        }
+        flushDeferredSaves();
+        exit();
+    }
+
+    /**
+     * Loads data from storage, reading the data files at the same time.
+     * The results are displayed in the same order however long each file takes to load.
      */
     private boolean loadData() {
         logger.log(Level.INFO, "Loading data from storage");
-        CommandResult internshipResult = storageManager.loadInternshipData(internships);
-        CommandResult interviewResult = storageManager.loadInterviewData(internships);
-        CommandResult profileResult = storageManager.loadUserProfileData(user);
-        CommandResult projectResult = storageManager.loadProjectData(user.projects);
+        List<CommandResult> results = storageManager.loadAllData(internships, user);
+        CommandResult internshipResult = results.get(0);
+        CommandResult interviewResult = results.get(1);
+        CommandResult profileResult = results.get(2);
+        CommandResult projectResult = results.get(3);
         if (!internshipResult.isSuccessful()) {
             Ui.showResultToUser(internshipResult);
         }
@@ -87,24 +218,85 @@ public class InternSprint {
         }
         logger.log(Level.INFO, "Data loaded successfully");
 
-        CommandResult result;
         boolean isExit = false;
         while (!isExit) {
-            try {
-                String userCommand = Ui.getUserCommand();
-                logger.log(Level.INFO, "User command: " + userCommand);
-                Command command = CommandParser.parseCommand(userCommand);
-                logger.log(Level.INFO, "Parsed Command: " + command);
-                result = command.execute(internships, user);
-                logger.log(Level.INFO, "Command executed successfully");
-                Ui.showResultToUser(result);
-                isExit = result.isExit();
-            } catch (IllegalArgumentException e) {
-                logger.log(Level.WARNING, "Invalid command entered");
-                Ui.showError(e.getMessage());
-            } finally {
-                System.out.println();
+            showWriteBehindFailure();
+            isExit = executeUserCommand(Ui.getUserCommand());
+        }
+    }
+
+    /**
+     * Parses and executes one command, and displays its result.
+     * The execution is timed in the metrics, and recorded as a {@link CommandExecuteEvent} when the flight
+     * recorder is running.
+     *
+     * @param userCommand Command entered by the user.
+     * @return True if the command exits the program.
+     */
+    private boolean executeUserCommand(String userCommand) {
+        try {
+            logger.log(Level.INFO, () -> "User command: " + userCommand);
+            MetricsRegistry.Sample parseSample = metrics.start();
+            Command command = CommandParser.parseCommand(userCommand);
+            parseSample.stop("parse command");
+            logger.log(Level.INFO, () -> "Parsed Command: " + command);
+            CommandExecuteEvent event = new CommandExecuteEvent();
+            event.begin();
+            MetricsRegistry.Sample executeSample = metrics.start();
+            CommandResult result = storageManager.runExclusively(() -> command.execute(internships, user));
+            executeSample.stop(command.getClass().getSimpleName());
+            if (event.shouldCommit()) {
+                event.commandType = command.getCommandType();
+                event.commandWord = command.getCommandWord();
+                event.isSuccessful = result.isSuccessful();
+                event.commit();
             }
+            logger.log(Level.INFO, "Command executed successfully");
+            Ui.showResultToUser(result);
+            return result.isExit();
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Invalid command entered");
+            Ui.showError(e.getMessage());
+            return false;
+        } finally {
+            Ui.showBlankLine();
+        }
+    }
+
+    /**
+     * Displays the error of a background save that failed since the last command, if there is one.
+     */
+    private void showWriteBehindFailure() {
+        String failure = storageManager.takeWriteBehindFailure();
+        if (failure != null) {
+            Ui.showError(String.format(WRITE_BEHIND_FAILED, failure));
+        }
+    }
+
+    /**
+     * Writes the saves that were deferred while running a script or by write-behind, and displays any error.
+     */
+    private void flushDeferredSaves() {
+        try {
+            storageManager.flushDeferredSaves();
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error saving deferred changes");
+            Ui.showError(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the metrics to the file given with {@code --metrics}, if there is one.
+     */
+    private static void writeMetrics() {
+        if (metricsPath == null) {
+            return;
+        }
+        try {
+            metrics.writeTo(metricsPath);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Error writing metrics");
+            Ui.showError(String.format(UNABLE_TO_WRITE_METRICS, metricsPath.toAbsolutePath()));
         }
     }
 
@@ -113,6 +305,9 @@ public class InternSprint {
      */
     private void exit() {
         logger.log(Level.INFO, "Exiting InternSprint");
+        flushDeferredSaves();
+        writeMetrics();
+        Ui.flushOutput();
         System.exit(0);
     }
 }
@@ -0,0 +1,26 @@
+package seedu.internsprint.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for executing one command, including any saving the command does.
+ */
+@Name("seedu.internsprint.CommandExecute")
+@Label("Command Execute")
+@Category({"InternSprint", "Commands"})
+@Description("Execution of one command, including any saving it does")
+@StackTrace(false)
+public class CommandExecuteEvent extends jdk.jfr.Event {
+    @Label("Command Type")
+    public String commandType;
+
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Successful")
+    public boolean isSuccessful;
+}
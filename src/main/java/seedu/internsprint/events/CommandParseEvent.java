@@ -0,0 +1,26 @@
+package seedu.internsprint.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for parsing one line of user input into a command.
+ */
+@Name("seedu.internsprint.CommandParse")
+@Label("Command Parse")
+@Category({"InternSprint", "Commands"})
+@Description("Parsing of one line of user input into a command")
+@StackTrace(false)
+public class CommandParseEvent extends jdk.jfr.Event {
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Parameter Count")
+    public int parameterCount;
+
+    @Label("Successful")
+    public boolean isSuccessful;
+}
@@ -0,0 +1,31 @@
+package seedu.internsprint.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for parsing a date or time entered by the user.
+ */
+@Name("seedu.internsprint.DateTimeParse")
+@Label("Date Time Parse")
+@Category({"InternSprint", "Parsing"})
+@Description("Parsing of a date or time entered by the user")
+@StackTrace(false)
+public class DateTimeParseEvent extends jdk.jfr.Event {
+    @Label("Kind")
+    @Description("Whether a date, a time, or both were parsed")
+    public String kind;
+
+    @Label("Input")
+    public String input;
+
+    @Label("Fast Path")
+    @Description("Whether the input was in a common numeric format, so that Natty was not needed")
+    public boolean isFastPath;
+
+    @Label("Successful")
+    public boolean isSuccessful;
+}
@@ -0,0 +1,31 @@
+package seedu.internsprint.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for saving data to or loading data from one data file.
+ */
+@Name("seedu.internsprint.Storage")
+@Label("Storage Save or Load")
+@Category({"InternSprint", "Storage"})
+@Description("Saving data to or loading data from one data file")
+@StackTrace(false)
+public class StorageEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Entry Count")
+    public int entryCount;
+}
@@ -14,6 +14,11 @@ public abstract class Command {
      */
     protected HashMap<String, String> parameters = new HashMap<>();
 
+    /**
+     * Words the user typed to choose this command, such as "add software".
+     */
+    private String commandWord = "";
+
     public void setParameters(HashMap<String, String> parameters) {
         this.parameters = parameters;
     }
@@ -22,6 +27,14 @@ public abstract class Command {
         return parameters;
     }
 
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
     /**
      * Checks if the parameters entered by the user are valid.
      *
@@ -2,6 +2,7 @@ package seedu.internsprint.logic.command;
 
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.TableWriter;
 
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -15,6 +16,7 @@ public class CommandResult {
     private static final Logger logger = InternSprintLogger.getLogger();
     private final List<String> feedbackToUser;
     private final List<Internship> relevantInternships;
+    private TableWriter.Table table;
     private boolean isSuccessful;
     private boolean isExit;
 
@@ -90,6 +92,20 @@ public class CommandResult {
         return relevantInternships;
     }
 
+    public TableWriter.Table getTable() {
+        return table;
+    }
+
+    /**
+     * Sets a table to be shown after the feedback. It is written straight to the output, one line at a time,
+     * instead of being built into a string first.
+     *
+     * @param table Table to be shown to the user.
+     */
+    public void setTable(TableWriter.Table table) {
+        this.table = table;
+    }
+
     public void setSuccessful(boolean isSuccessful) {
         this.isSuccessful = isSuccessful;
     }
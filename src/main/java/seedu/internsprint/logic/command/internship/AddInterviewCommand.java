@@ -7,6 +7,7 @@ import seedu.internsprint.logic.parser.CommandParser;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.internship.interview.InterviewEntry;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.util.InternSprintLogger;
 import seedu.internsprint.util.InternSprintMessages;
@@ -22,6 +23,7 @@ import java.util.logging.Logger;
 import static seedu.internsprint.util.InternSprintExceptionMessages.ADD_INTERVIEW_INVALID_PARAMS;
 import static seedu.internsprint.util.InternSprintExceptionMessages.DESC_UNABLE_TO_FIND_INTERNSHIP;
 import static seedu.internsprint.util.InternSprintMessages.ADD_INTERVIEW_MESSAGE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.INTERVIEW_CLASH_WARNING;
 
 /**
  * Represents a command to add an interview to an internship.
@@ -140,6 +142,7 @@ public class AddInterviewCommand extends Command {
 
     /**
      * Creates an interview object and adds it to the internship.
+     * The user is warned of any interviews already scheduled at an overlapping time.
      *
      * @param feedback Feedback to be shown to the user.
      * @param internship Internship object.
@@ -164,9 +167,12 @@ public class AddInterviewCommand extends Command {
             return new CommandResult(feedback, false);
         }
         interview.setInternshipId(internship.getInternshipId());
+        List<InterviewEntry> clashingEntries = internships.getInterviewTimeline().getOverlappingInterviews(
+                interview.getUnformattedInterviewDate(), interview.getUnformattedInterviewStartTime(),
+                interview.getUnformattedInterviewEndTime());
 
         try {
-            internship.addInterview(interview);
+            internships.addInterview(internship, interview);
             internships.saveInternships();
             feedback.add(InternSprintMessages.SAVE_SUCCESS_MESSAGE);
         } catch (IOException e) {
@@ -180,6 +186,13 @@ public class AddInterviewCommand extends Command {
         }
 
         feedback.add(String.format(ADD_INTERVIEW_MESSAGE_SUCCESS, interview));
+        if (!clashingEntries.isEmpty()) {
+            logger.info("New interview overlaps with existing interviews.");
+            feedback.add(INTERVIEW_CLASH_WARNING);
+            for (InterviewEntry clashingEntry : clashingEntries) {
+                feedback.add("    - " + clashingEntry);
+            }
+        }
         return new CommandResult(feedback, true);
     }
 }
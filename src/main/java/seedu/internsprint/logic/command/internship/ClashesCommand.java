@@ -0,0 +1,84 @@
+package seedu.internsprint.logic.command.internship;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.InterviewClash;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CLASHES_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintMessages.CLASHES_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.NO_CLASHES_FOUND;
+
+/**
+ * Represents a command to list every pair of interviews, across all internships, whose times overlap.
+ */
+public class ClashesCommand extends Command {
+    public static final String COMMAND_WORD = "clashes";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists every pair of interviews that overlap.\n"
+            + "    Example: " + COMMAND_WORD;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Checks if the parameters entered by the user are valid.
+     * The command does not accept any parameters.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.isEmpty();
+    }
+
+    /**
+     * Executes the clashes command.
+     * The interview timeline is swept once in chronological order to find every overlapping pair.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        logger.log(Level.INFO, "Executing clashes command");
+        List<String> feedback = new ArrayList<>();
+        CommandResult result;
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters provided for clashes command");
+            feedback.add(CLASHES_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        List<InterviewClash> clashes = internships.getInterviewTimeline().getClashes();
+        if (clashes.isEmpty()) {
+            feedback.add(NO_CLASHES_FOUND);
+        } else {
+            feedback.add(String.format(CLASHES_FOUND, clashes.size()));
+            for (int i = 0; i < clashes.size(); i++) {
+                InterviewClash clash = clashes.get(i);
+                feedback.add((i + 1) + ". " + clash.getEarlierEntry());
+                feedback.add("   overlaps with " + clash.getLaterEntry());
+            }
+        }
+
+        logger.log(Level.INFO, "Clashes command executed successfully");
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    @Override
+    public String getCommandType() {
+        return "interview";
+    }
+}
@@ -57,7 +57,7 @@ public class DeleteCommand extends Command {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         logger.log(Level.INFO, "Starting Delete Command processing");
-        logger.log(Level.INFO, "Parameters in DeleteCommand: " + parameters.toString());
+        logger.log(Level.INFO, () -> "Parameters in DeleteCommand: " + parameters);
         assert parameters != null : "parameters should not be null";
 
         if (!isValidParameters()) {
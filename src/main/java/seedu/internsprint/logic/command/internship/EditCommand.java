@@ -1,5 +1,6 @@
 package seedu.internsprint.logic.command.internship;
 
+import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.logic.parser.CommandParser;
@@ -133,6 +134,7 @@ public class EditCommand extends Command {
 
         if (foundInternship == null || checkWrongTypeOfInternship) {
             logger.log(Level.WARNING, "Internship not found");
+            revertEdit(internships, type, index, foundInternship, foundInternshipCopy);
             feedback.add(EDIT_UNABLE_TO_FIND_INTERNSHIP);
             feedback.add(EDIT_INTERNSHIP_TYPE_TO_FLAG);
             result = new CommandResult(feedback);
@@ -140,11 +142,10 @@ public class EditCommand extends Command {
             return result;
         }
 
-        long count = internshipMap.values().stream().flatMap(List::stream)
-                .filter(internship -> internship.equals(foundInternship))
-                .count();
-        if (count >= 2) {
-            internshipMap.get(type).set(index, foundInternshipCopy);
+        try {
+            internships.updateInternship(foundInternship);
+        } catch (DuplicateEntryException e) {
+            revertEdit(internships, type, index, foundInternship, foundInternshipCopy);
             feedback.add(MESSAGE_DUPLICATE_INTERNSHIP);
             result = new CommandResult(feedback);
             result.setSuccessful(false);
@@ -169,6 +170,21 @@ public class EditCommand extends Command {
         return result;
     }
 
+    /**
+     * Puts the unedited copy of the internship back in the list, keeping its ID and interviews.
+     *
+     * @param internships InternshipList object.
+     * @param type Type of internship.
+     * @param index Index of internship.
+     * @param editedInternship Internship that has been edited.
+     * @param originalInternship Copy of the internship made before it was edited.
+     */
+    private void revertEdit(InternshipList internships, String type, int index, Internship editedInternship,
+                            Internship originalInternship) {
+        originalInternship.setInterview(editedInternship.getInterview());
+        internships.replaceInternship(type, index, originalInternship);
+    }
+
     /**
      * Edits corresponding field for foundInternship as specified using flags by user.
      * @param foundInternship the internship indexed in the list.
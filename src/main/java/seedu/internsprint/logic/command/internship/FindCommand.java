@@ -50,7 +50,7 @@ public class FindCommand extends Command {
     public CommandResult execute(InternshipList internships, UserProfile user) {
         CommandResult result;
         logger.info("Starting Find Command processing");
-        logger.info("Parameters in FindCommand: " + parameters.toString());
+        logger.info(() -> "Parameters in FindCommand: " + parameters);
 
         String type = parameters.getOrDefault("description", "").trim().toLowerCase();
         String companyName = parameters.getOrDefault("/c", "").trim().toLowerCase();
@@ -66,14 +66,7 @@ public class FindCommand extends Command {
 
         assert !parameters.isEmpty() : "parameters should not be empty";
 
-        ArrayList<Internship> foundInternships = new ArrayList<>();
-        internships.getInternshipMap().values().forEach(internshipList -> {
-            foundInternships.addAll(internshipList.stream()
-                .filter(internship -> (type.isEmpty() || internship.getType().toLowerCase().contains(type))
-                    && (companyName.isEmpty() || internship.getCompanyName().toLowerCase().contains(companyName))
-                    && (role.isEmpty() || internship.getRole().toLowerCase().contains(role)))
-                .toList());
-        });
+        ArrayList<Internship> foundInternships = internships.findInternships(type, companyName, role);
 
         if (foundInternships.isEmpty()) {
             result = new CommandResult(NO_INTERNSHIPS_FOUND);
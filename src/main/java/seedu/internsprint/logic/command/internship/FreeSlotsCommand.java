@@ -0,0 +1,146 @@
+package seedu.internsprint.logic.command.internship;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.parser.DateTimeParser;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.FreeTimeSlot;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.FREE_SLOTS_INVALID_HOURS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.FREE_SLOTS_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.FREE_SLOTS_INVALID_RANGE;
+import static seedu.internsprint.util.InternSprintMessages.FREE_SLOTS_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.NO_FREE_SLOTS_FOUND;
+
+/**
+ * Represents a command to find the free time windows of at least a given length between interviews
+ * within a range of dates.
+ */
+public class FreeSlotsCommand extends Command {
+    public static final String COMMAND_WORD = "free";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds free time slots of at least the given length "
+            + "between your interviews.\n"
+            + "    Parameters: /from DATE /to DATE /length MINUTES [/start DAY_START_TIME] [/end DAY_END_TIME]\n"
+            + "    Example: " + COMMAND_WORD + " /from 2025-04-14 /to 2025-04-18 /length 60 /start 09:00 /end 18:00";
+    public static final String[] REQUIRED_PARAMETERS = {"/from", "/to", "/length"};
+    public static final String[] OPTIONAL_PARAMETERS = {"/start", "/end"};
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    public static final LocalTime DEFAULT_DAY_END = LocalTime.of(18, 0);
+    public static final int MAX_RANGE_IN_DAYS = 366;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Checks if the parameters entered by the user are valid.
+     * The date range and length are required, and the length must be a positive number of minutes.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        for (String requiredParameter : REQUIRED_PARAMETERS) {
+            if (!parameters.containsKey(requiredParameter)) {
+                return false;
+            }
+        }
+        for (String parameter : parameters.keySet()) {
+            if (!Arrays.asList(REQUIRED_PARAMETERS).contains(parameter)
+                    && !Arrays.asList(OPTIONAL_PARAMETERS).contains(parameter)) {
+                return false;
+            }
+        }
+        return getLengthInMinutes() > 0;
+    }
+
+    /**
+     * Executes the free slots command.
+     * The interviews on each date in the range are merged in order of start time to find the gaps between them.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        logger.log(Level.INFO, "Executing free slots command");
+        List<String> feedback = new ArrayList<>();
+        CommandResult result;
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters provided for free slots command");
+            feedback.add(FREE_SLOTS_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        int lengthInMinutes = getLengthInMinutes();
+        List<FreeTimeSlot> freeTimeSlots;
+        try {
+            LocalDate from = DateTimeParser.parseDateInput(parameters.get("/from"));
+            LocalDate to = DateTimeParser.parseDateInput(parameters.get("/to"));
+            if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_IN_DAYS) {
+                throw new IllegalArgumentException(String.format(FREE_SLOTS_INVALID_RANGE, MAX_RANGE_IN_DAYS));
+            }
+            LocalTime dayStart = parameters.containsKey("/start")
+                    ? DateTimeParser.parseTimeInput(parameters.get("/start")) : DEFAULT_DAY_START;
+            LocalTime dayEnd = parameters.containsKey("/end")
+                    ? DateTimeParser.parseTimeInput(parameters.get("/end")) : DEFAULT_DAY_END;
+            if (!dayStart.isBefore(dayEnd)) {
+                throw new IllegalArgumentException(FREE_SLOTS_INVALID_HOURS);
+            }
+            freeTimeSlots = internships.getInterviewTimeline().getFreeTimeSlots(from, to, dayStart, dayEnd,
+                    Duration.ofMinutes(lengthInMinutes));
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Invalid dates or times given to free slots command.");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        if (freeTimeSlots.isEmpty()) {
+            feedback.add(String.format(NO_FREE_SLOTS_FOUND, lengthInMinutes));
+        } else {
+            feedback.add(String.format(FREE_SLOTS_FOUND, lengthInMinutes));
+            for (int i = 0; i < freeTimeSlots.size(); i++) {
+                feedback.add((i + 1) + ". " + freeTimeSlots.get(i));
+            }
+        }
+
+        logger.log(Level.INFO, "Free slots command executed successfully");
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Returns the minimum length of a free slot requested by the user.
+     *
+     * @return Length in minutes, or -1 if it is not a valid integer.
+     */
+    private int getLengthInMinutes() {
+        try {
+            return Integer.parseInt(parameters.get("/length").trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String getCommandType() {
+        return "interview";
+    }
+}
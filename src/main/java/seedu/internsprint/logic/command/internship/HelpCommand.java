@@ -37,13 +37,17 @@ public class HelpCommand extends Command {
         COMMAND_HELP_MESSAGES.put("add hardware", AddHardwareInternshipCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("interview for", AddInterviewCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("sort interviews", SortInterviewCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("clashes", ClashesCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("free", FreeSlotsCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("list", ListCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("description", DescriptionCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("find", FindCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("search", SearchCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("desc", DescriptionCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("delete", DeleteCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("edit", EditCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("help", HelpCommand.MESSAGE_USAGE);
+        COMMAND_HELP_MESSAGES.put("stats", StatsCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("my", UserProfileCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("view user", ViewUserCommand.MESSAGE_USAGE);
         COMMAND_HELP_MESSAGES.put("project general", ProjectGeneralCommand.MESSAGE_USAGE);
@@ -0,0 +1,104 @@
+package seedu.internsprint.logic.command.internship;
+
+import seedu.internsprint.model.internship.Internship;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lists internships by category as lines of feedback, building each line only when it is read.
+ * <p>
+ * Each category starts with a header line, followed by one numbered line for each of its internships.
+ * Internships are numbered across all categories, in the order software, hardware and general, and only
+ * those in the requested range are listed. Since the lines are built on demand, listing many internships
+ * does not hold a string for every one of them at once.
+ */
+final class InternshipListing extends AbstractList<String> {
+    private static final String[] CATEGORIES = {"software", "hardware", "general"};
+    private static final String[] HEADERS = {"Software Internships:", "Hardware Internships:", "General Internships:"};
+
+    private final List<String> leadingLines;
+    private final List<Section> sections = new ArrayList<>();
+    private final int size;
+
+    /**
+     * Creates a listing of the internships from {@code firstInternship} up to, but excluding,
+     * {@code endInternship}, counting from 0 across all categories.
+     *
+     * @param leadingLines Lines to show before the first category.
+     * @param internshipMap Internships by category.
+     * @param firstInternship Position of the first internship to list.
+     * @param endInternship Position after the last internship to list.
+     * @param isShowingEmptyCategories True to show the header of a category with no internships listed.
+     */
+    InternshipListing(List<String> leadingLines, Map<String, ArrayList<Internship>> internshipMap,
+                      int firstInternship, int endInternship, boolean isShowingEmptyCategories) {
+        this.leadingLines = leadingLines;
+        int categoryStart = 0;
+        int lineCount = leadingLines.size();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            List<Internship> internships = internshipMap.get(CATEGORIES[i]);
+            int from = Math.max(firstInternship - categoryStart, 0);
+            int to = Math.min(endInternship - categoryStart, internships.size());
+            if (from < to || isShowingEmptyCategories) {
+                Section section = new Section(HEADERS[i], internships, from, Math.max(to, from),
+                        categoryStart + from + 1);
+                sections.add(section);
+                lineCount += 1 + section.getRowCount();
+            }
+            categoryStart += internships.size();
+        }
+        this.size = lineCount;
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        if (index < leadingLines.size()) {
+            return leadingLines.get(index);
+        }
+        int line = index - leadingLines.size();
+        for (Section section : sections) {
+            if (line == 0) {
+                return section.header;
+            }
+            line--;
+            if (line < section.getRowCount()) {
+                return "  " + (section.firstNumber + line) + ". " + section.internships.get(section.from + line);
+            }
+            line -= section.getRowCount();
+        }
+        throw new IllegalStateException("Line " + index + " was not found in any category");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Represents the internships of one category that are listed.
+     */
+    private static final class Section {
+        private final String header;
+        private final List<Internship> internships;
+        private final int from;
+        private final int to;
+        private final int firstNumber;
+
+        private Section(String header, List<Internship> internships, int from, int to, int firstNumber) {
+            this.header = header;
+            this.internships = internships;
+            this.from = from;
+            this.to = to;
+            this.firstNumber = firstNumber;
+        }
+
+        private int getRowCount() {
+            return to - from;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package seedu.internsprint.logic.command.internship;
 
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
-import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.util.InternSprintLogger;
@@ -13,7 +12,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.LIST_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.LIST_INVALID_PAGE;
 import static seedu.internsprint.util.InternSprintMessages.LIST_MESSAGE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.LIST_PAGE_MESSAGE;
 import static seedu.internsprint.util.InternSprintMessages.NO_INTERNSHIPS_FOUND;
 
 public class ListCommand extends Command {
@@ -27,28 +28,36 @@ public class ListCommand extends Command {
      */
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists every saved internship in your list, arranged "
             + "by categories\n"
-            + "    Parameters: None\n"
-            + "    Example: " + COMMAND_WORD;
+            + "    Parameters: [/page PAGE_NUMBER] [/size PAGE_SIZE]\n"
+            + "    Example: " + COMMAND_WORD + "\n"
+            + "    Example: " + COMMAND_WORD + " /page 2 /size 20";
     private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int DEFAULT_PAGE_SIZE = 50;
 
-    /**
-     * Checks if the parameters provided to the lost command are valid.
-     *
-     * @return True if no parameters are provided, false otherwise.
-     */
     @Override
     public String getCommandType() {
         return "internship";
     }
 
+    /**
+     * Checks if the parameters provided to the list command are valid.
+     *
+     * @return True if no parameters are provided, or only a positive page number and page size.
+     */
     @Override
     protected boolean isValidParameters() {
         logger.log(Level.INFO, "Entering into the check for parameters in list command");
-        return parameters.isEmpty();
+        for (String key : parameters.keySet()) {
+            if (!key.equals("/page") && !key.equals("/size")) {
+                return false;
+            }
+        }
+        return getPageNumber() > 0 && getPageSize() > 0;
     }
 
     /**
      * Executes the command to list internships.
+     * If a page is asked for, only the internships on that page are listed, numbered as they are in the full list.
      *
      * @param internshipList InternshipList object.
      * @param user           Userprofile object.
@@ -60,10 +69,14 @@ public class ListCommand extends Command {
         assert internshipList != null : "InternshipList should not be null";
         assert user != null : "UserProfile should not be null";
         assert internshipList.getInternshipMap() != null : "InternshipMap should not be null";
+        assert internshipList.getInternshipMap().containsKey("software") : "Internship map should contain key " +
+                "'software'";
+        assert internshipList.getInternshipMap().containsKey("hardware") : "Internship map should contain key " +
+                "'hardware'";
+        assert internshipList.getInternshipMap().containsKey("general") : "Internship map should contain key 'general'";
 
         CommandResult result;
         List<String> feedback = new ArrayList<>();
-        int count = 1;
 
         if (!isValidParameters()) {
             logger.log(Level.WARNING, "There are invalid parameters so error result is output to user.");
@@ -74,45 +87,72 @@ public class ListCommand extends Command {
             return result;
         }
 
-        feedback.add(LIST_MESSAGE_SUCCESS);
-
-        feedback.add("Software Internships:");
-        assert internshipList.getInternshipMap().containsKey("software") : "Internship map should contain key " +
-                "'software'";
-        for (Internship everyInternship : internshipList.getInternshipMap().get("software")) {
-            assert everyInternship != null : "A software internship entry should not be null";
-            feedback.add("  " + count + ". " + everyInternship.toString());
-            count++;
-        }
-
-        feedback.add("Hardware Internships:");
-        assert internshipList.getInternshipMap().containsKey("hardware") : "Internship map should contain key " +
-                "'hardware'";
-        for (Internship everyInternship : internshipList.getInternshipMap().get("hardware")) {
-            assert everyInternship != null : "A hardware internship entry should not be null";
-            feedback.add("  " + count + ". " + everyInternship.toString());
-            count++;
+        int internshipCount = internshipList.getInternshipCount();
+        if (internshipCount == 0) {
+            result = new CommandResult(NO_INTERNSHIPS_FOUND);
+            result.setSuccessful(true);
+            logger.log(Level.INFO, "No internships found in the list");
+            return result;
         }
 
-        feedback.add("General Internships:");
-        assert internshipList.getInternshipMap().containsKey("general") : "Internship map should contain key 'general'";
-        for (Internship everyInternship : internshipList.getInternshipMap().get("general")) {
-            assert everyInternship != null : "A general internship entry should not be null";
-            feedback.add("  " + count + ". " + everyInternship.toString());
-            count++;
+        feedback.add(LIST_MESSAGE_SUCCESS);
+        if (parameters.isEmpty()) {
+            result = new CommandResult(new InternshipListing(feedback, internshipList.getInternshipMap(),
+                    0, internshipCount, true));
+            result.setSuccessful(true);
+            logger.log(Level.INFO, "List command executed successfully");
+            return result;
         }
 
-        if (count == 1) {
-            result = new CommandResult(NO_INTERNSHIPS_FOUND);
-            result.setSuccessful(true);
-            logger.log(Level.INFO, "No internships found in the list");
+        int pageNumber = getPageNumber();
+        int pageSize = getPageSize();
+        int pageCount = (internshipCount + pageSize - 1) / pageSize;
+        if (pageNumber > pageCount) {
+            logger.log(Level.WARNING, "Page asked for is past the end of the list.");
+            feedback.clear();
+            feedback.add(String.format(LIST_INVALID_PAGE, pageNumber, pageCount));
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
             return result;
         }
 
-        logger.log(Level.INFO, "List command executed successfully");
-        result = new CommandResult(feedback);
+        int firstInternship = (pageNumber - 1) * pageSize;
+        int endInternship = Math.min(firstInternship + pageSize, internshipCount);
+        feedback.add(String.format(LIST_PAGE_MESSAGE, pageNumber, pageCount, firstInternship + 1, endInternship,
+                internshipCount));
+        result = new CommandResult(new InternshipListing(feedback, internshipList.getInternshipMap(),
+                firstInternship, endInternship, false));
         result.setSuccessful(true);
+        logger.log(Level.INFO, "List command executed successfully");
         return result;
     }
-}
 
+    /**
+     * Returns the page of the list requested by the user.
+     *
+     * @return Page number counting from 1, or -1 if it is not a valid integer.
+     */
+    private int getPageNumber() {
+        return parsePositiveInteger(parameters.get("/page"), 1);
+    }
+
+    /**
+     * Returns the number of internships on each page.
+     *
+     * @return Page size, or -1 if it is not a valid integer.
+     */
+    private int getPageSize() {
+        return parsePositiveInteger(parameters.get("/size"), DEFAULT_PAGE_SIZE);
+    }
+
+    private static int parsePositiveInteger(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.internsprint.logic.command.internship;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.SEARCH_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintMessages.NO_INTERNSHIPS_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.SEARCH_RESULTS_FOUND;
+
+/**
+ * Represents a command to search the description, eligibility and expectations of internships,
+ * showing the best matching internships first.
+ */
+public class SearchCommand extends Command {
+    public static final String COMMAND_WORD = "search";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches the description, eligibility and "
+        + "expectations of all internships, showing the best matches first.\n"
+        + "    Parameters: WORDS [/top NUMBER_OF_RESULTS] \n"
+        + "    Example: " + COMMAND_WORD + " machine learning python /top 5";
+    public static final int DEFAULT_NUMBER_OF_RESULTS = 10;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Checks if the parameters entered by the user are valid.
+     * The words to search for are required, and the number of results must be a positive integer if given.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        String query = parameters.get("description");
+        if (query == null || query.isBlank()) {
+            return false;
+        }
+        for (String key : parameters.keySet()) {
+            if (!key.equals("description") && !key.equals("/top")) {
+                return false;
+            }
+        }
+        return !parameters.containsKey("/top") || getNumberOfResults() > 0;
+    }
+
+    /**
+     * Executes the search command.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        CommandResult result;
+        logger.log(Level.INFO, "Starting Search Command processing");
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters provided for search command");
+            List<String> feedback = new ArrayList<>();
+            feedback.add(SEARCH_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        String query = parameters.get("description").trim();
+        int numberOfResults = parameters.containsKey("/top") ? getNumberOfResults() : DEFAULT_NUMBER_OF_RESULTS;
+        ArrayList<Internship> foundInternships = internships.searchInternships(query, numberOfResults);
+
+        if (foundInternships.isEmpty()) {
+            result = new CommandResult(NO_INTERNSHIPS_FOUND);
+            result.setSuccessful(true);
+            logger.log(Level.INFO, "No internships matched the search");
+            return result;
+        }
+
+        result = new CommandResult(String.format(SEARCH_RESULTS_FOUND, foundInternships.size()), foundInternships);
+        result.setSuccessful(true);
+        logger.log(Level.INFO, "Search results found successfully");
+        return result;
+    }
+
+    /**
+     * Returns the number of results requested by the user.
+     *
+     * @return Number of results, or -1 if it is not a valid integer.
+     */
+    private int getNumberOfResults() {
+        try {
+            return Integer.parseInt(parameters.get("/top").trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+}
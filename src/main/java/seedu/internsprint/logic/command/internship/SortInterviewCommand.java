@@ -1,37 +1,39 @@
 package seedu.internsprint.logic.command.internship;
 
-import de.vandermeer.asciitable.AsciiTable;
-import de.vandermeer.asciitable.CWC_LongestLine;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.logic.parser.DateTimeParser;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.model.internship.interview.InterviewEntry;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.TableWriter;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.SORT_INTERVIEWS_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.SORT_INTERVIEWS_INVALID_RANGE;
 import static seedu.internsprint.util.InternSprintMessages.NO_INTERVIEWS_SCHEDULED;
 import static seedu.internsprint.util.InternSprintMessages.SORT_INTERVIEWS_MESSAGE_SUCCESS;
 
 /**
  * Command that sorts all interviews across internships based on their date and time.
  * It displays the sorted interviews in an ASCII table, with each row representing an interview entry.
+ * The table is written straight to the output as it is built, so it is never held as a string.
  */
 public class SortInterviewCommand extends Command {
     public static final String COMMAND_WORD = "sort interviews";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the internship by the name of the interview " +
             "entry.\n"
-            + "    Parameters: None\n"
-            + "    Example: " + COMMAND_WORD;
+            + "    Parameters: [/from DATE] [/to DATE]\n"
+            + "    Example: " + COMMAND_WORD + " /from 2025-04-14 /to 2025-04-20";
     private static final Logger logger = InternSprintLogger.getLogger();
 
     // Extracted constants for table column widths
@@ -49,15 +51,26 @@ public class SortInterviewCommand extends Command {
         return "interview";
     }
 
+    /**
+     * Checks if the parameters entered by the user are valid.
+     * The command accepts no parameters, or a range of dates given by /from and /to.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
     @Override
     protected boolean isValidParameters() {
-        return parameters.isEmpty();
+        for (String key : parameters.keySet()) {
+            if (!key.equals("/from") && !key.equals("/to")) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Executes the sort interviews command.
-     * It collects all interviews from the internship list, sorts them by date and time,
-     * and then displays them in an ASCII table
+     * It walks the interview timeline of the internship list, which keeps all interviews sorted by date and
+     * time, optionally limited to a range of dates, and then displays them in an ASCII table
      *
      * @param internships InternshipList
      * @param user        Userprofile object.
@@ -70,7 +83,6 @@ public class SortInterviewCommand extends Command {
         assert user != null : "UserProfile cannot be null";
 
         List<String> feedback = new ArrayList<>();
-        List<InterviewEntry> allEntries = collectAllInterviews(internships);
         CommandResult result;
 
         if (!isValidParameters()) {
@@ -82,8 +94,23 @@ public class SortInterviewCommand extends Command {
             return result;
         }
 
-        sortInterviewEntries(allEntries);
-        logger.log(Level.INFO, "Interview entries sorted successfully.");
+        List<InterviewEntry> allEntries;
+        try {
+            LocalDate from = parameters.containsKey("/from")
+                    ? DateTimeParser.parseDateInput(parameters.get("/from")) : null;
+            LocalDate to = parameters.containsKey("/to") ? DateTimeParser.parseDateInput(parameters.get("/to")) : null;
+            if (from != null && to != null && to.isBefore(from)) {
+                throw new IllegalArgumentException(SORT_INTERVIEWS_INVALID_RANGE);
+            }
+            allEntries = internships.getInterviewTimeline().getInterviews(from, to);
+        } catch (IllegalArgumentException e) {
+            logger.log(Level.WARNING, "Invalid date range given to sort interviews command.");
+            feedback.add(e.getMessage());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+        logger.log(Level.INFO, "Interview entries collected in order from the interview timeline.");
 
         if (allEntries.isEmpty()) {
             feedback.add(NO_INTERVIEWS_SCHEDULED);
@@ -93,26 +120,24 @@ public class SortInterviewCommand extends Command {
         }
 
         feedback.add(SORT_INTERVIEWS_MESSAGE_SUCCESS);
-        AsciiTable table = buildInterviewTable(allEntries);
-        feedback.add("\n" + table.render());
 
         logger.log(Level.INFO, "sort interviews command executed successfully");
         result = new CommandResult(feedback);
+        result.setTable(lineConsumer -> writeInterviewTable(allEntries, lineConsumer));
         result.setSuccessful(true);
         return result;
     }
 
     /**
-     * Builds an ASCII table containing interview details.
+     * Writes an ASCII table containing interview details, with columns for company name, role, interview date,
+     * start time, end time, interview type, interviewer email, and notes.
      *
      * @param allEntries a list of InterviewEntry objects containing pairs of interviews and internships
-     * @return an AsciiTable with columns for company name, role, interview date, start time,
-     *     end time, interview type, interviewer email, and notes.
+     * @param lineConsumer consumer of each line of the table, as soon as it is written
      */
-    private AsciiTable buildInterviewTable(List<InterviewEntry> allEntries) {
-        AsciiTable at = new AsciiTable();
-        CWC_LongestLine cwc = getCwcLongestLine();
-        at.getRenderer().setCWC(cwc);
+    private static void writeInterviewTable(List<InterviewEntry> allEntries, Consumer<String> lineConsumer) {
+        TableWriter at = new TableWriter(lineConsumer, COMPANY_WIDTH, ROLE_WIDTH, DATE_WIDTH, START_WIDTH,
+                END_WIDTH, TYPE_WIDTH, EMAIL_WIDTH, NOTES_WIDTH);
 
         at.addRule();
         at.addRow("Company Name", "Role", "Interview Date", "Start Time", "End Time", "Interview Type",
@@ -138,77 +163,6 @@ public class SortInterviewCommand extends Command {
             );
             at.addRule();
         }
-        return at;
-    }
-
-    /**
-     * Configures and returns a CWC_LongestLine object that sets the column widths for the ASCII table.
-     *
-     * @return a configured CWC_LongestLine object
-     */
-    private CWC_LongestLine getCwcLongestLine() {
-        CWC_LongestLine cwc = new CWC_LongestLine();
-        cwc.add(COMPANY_WIDTH, COMPANY_WIDTH); // Company Name
-        cwc.add(ROLE_WIDTH, ROLE_WIDTH); // Role
-        cwc.add(DATE_WIDTH, DATE_WIDTH); // Interview Date
-        cwc.add(START_WIDTH, START_WIDTH); // Start Time
-        cwc.add(END_WIDTH, END_WIDTH); // End Time
-        cwc.add(TYPE_WIDTH, TYPE_WIDTH); // Interview Type
-        cwc.add(EMAIL_WIDTH, EMAIL_WIDTH); // Interviewer Email
-        cwc.add(NOTES_WIDTH, NOTES_WIDTH); // Notes
-        return cwc;
-    }
-
-    /**
-     * Sorts the given list of interview entries based on interview date and start time.
-     *
-     * @param allEntries the list of {@code InterviewEntry} objects to sort.
-     */
-    private void sortInterviewEntries(List<InterviewEntry> allEntries) {
-        allEntries.sort(Comparator.comparing(entry -> LocalDateTime.of(
-                        entry.getInterview().getUnformattedInterviewDate(),
-                        entry.getInterview().getUnformattedInterviewStartTime()
-                )
-        ));
-    }
-
-    /**
-     * Recursively collects all interviews from the internship list, including follow-up rounds.
-     *
-     * @param internshipList The InternshipList to collect interviews from.
-     * @return A list of InterviewEntry objects each containing a pair of internship and one round of interview.
-     */
-    private List<InterviewEntry> collectAllInterviews(InternshipList internshipList) {
-        logger.log(Level.INFO, "Collecting all interviews from internship list");
-        List<InterviewEntry> allInterviews = new ArrayList<>();
-
-        for (ArrayList<Internship> internships : internshipList.getInternshipMap().values()) {
-            for (Internship internship : internships) {
-                Interview interview = internship.getInterview();
-                if (interview != null) {
-                    allInterviews.add(new InterviewEntry(internship, interview));
-                    collectNextRounds(internship, interview.getNextRounds(), allInterviews);
-                }
-            }
-        }
-        logger.log(Level.INFO, "Successfully collected a total of" + allInterviews.size() + " interview entries.");
-        return allInterviews;
-    }
-
-    /**
-     * Recursively collects next round interviews within the same interview adds them to the result list.
-     *
-     * @param internship The internship associated with the interviews.
-     * @param rounds     A list of follow-up interview rounds.
-     * @param result     The list to which the collected InterviewEntry objects are added.
-     */
-    private void collectNextRounds(Internship internship, List<Interview> rounds, List<InterviewEntry> result) {
-        logger.log(Level.FINE, "Entering collectNextRounds with " + rounds.size() + "rounds");
-        for (Interview round : rounds) {
-            assert round != null : "Interview round cannot be null";
-            result.add(new InterviewEntry(internship, round));
-            collectNextRounds(internship, round.getNextRounds(), result);
-        }
-        logger.log(Level.FINE, "Exiting collectNextRounds");
+        at.finish();
     }
 }
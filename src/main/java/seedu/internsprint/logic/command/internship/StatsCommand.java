@@ -0,0 +1,119 @@
+package seedu.internsprint.logic.command.internship;
+
+import seedu.internsprint.logic.command.Command;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.LatencyHistogram;
+import seedu.internsprint.util.MetricsRegistry;
+import seedu.internsprint.util.TableWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.STATS_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintMessages.NO_STATS_RECORDED;
+import static seedu.internsprint.util.InternSprintMessages.STATS_MESSAGE;
+
+/**
+ * Represents a command to show how long each command, save and load has taken during this session.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how many times each command, save and load "
+            + "has run this session,\n"
+            + "    with its total, median (p50), 99th percentile (p99) and longest time in milliseconds,\n"
+            + "    the bytes it wrote or read, and the memory it allocated.\n"
+            + "    Example: " + COMMAND_WORD;
+    private static final int[] COLUMN_WIDTHS = {28, 7, 10, 9, 9, 9, 11, 11};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    /**
+     * Checks if the parameters entered by the user are valid.
+     * The command does not accept any parameters.
+     *
+     * @return True if the parameters are valid, false otherwise.
+     */
+    @Override
+    protected boolean isValidParameters() {
+        return parameters.isEmpty();
+    }
+
+    /**
+     * Executes the stats command.
+     * Operations are shown in a table, starting with the one that has taken the most time in total.
+     *
+     * @param internships InternshipList object.
+     * @param user UserProfile object.
+     * @return CommandResult object.
+     */
+    @Override
+    public CommandResult execute(InternshipList internships, UserProfile user) {
+        logger.log(Level.INFO, "Executing stats command");
+        List<String> feedback = new ArrayList<>();
+        CommandResult result;
+
+        if (!isValidParameters()) {
+            logger.log(Level.WARNING, "Invalid parameters provided for stats command");
+            feedback.add(STATS_INVALID_PARAMS);
+            feedback.add(MESSAGE_USAGE);
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        List<MetricsRegistry.Metric> metrics = MetricsRegistry.getInstance().getMetrics();
+        if (metrics.isEmpty()) {
+            feedback.add(NO_STATS_RECORDED);
+        } else {
+            feedback.add(STATS_MESSAGE);
+            TableWriter table = new TableWriter(feedback::add, COLUMN_WIDTHS);
+            table.addRule();
+            table.addRow("Operation", "Count", "Total ms", "p50 ms", "p99 ms", "Max ms", "Bytes", "Allocated");
+            table.addRule();
+            for (MetricsRegistry.Metric metric : metrics) {
+                LatencyHistogram latencies = metric.getLatencies();
+                table.addRow(metric.getName(), latencies.getCount(), toMillis(latencies.getTotal()),
+                        toMillis(latencies.getPercentile(50)), toMillis(latencies.getPercentile(99)),
+                        toMillis(latencies.getMax()), formatBytes(metric.getBytesTransferred()),
+                        formatBytes(metric.getBytesAllocated()));
+            }
+            table.addRule();
+            table.finish();
+        }
+
+        logger.log(Level.INFO, "Stats command executed successfully");
+        result = new CommandResult(feedback);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    @Override
+    public String getCommandType() {
+        return "internship";
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Formats a number of bytes in the largest unit that keeps it at least 1.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        if (bytes < 1024L * 1024 * 1024) {
+            return String.format("%.1f MB", bytes / (1024.0 * 1024));
+        }
+        return String.format("%.1f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.internsprint.logic.parser;
 
+import seedu.internsprint.events.CommandParseEvent;
 import seedu.internsprint.logic.command.internship.AddGeneralInternshipCommand;
 import seedu.internsprint.logic.command.internship.AddHardwareInternshipCommand;
 import seedu.internsprint.logic.command.internship.AddInterviewCommand;
 import seedu.internsprint.logic.command.internship.AddSoftwareInternshipCommand;
+import seedu.internsprint.logic.command.internship.ClashesCommand;
+import seedu.internsprint.logic.command.internship.FreeSlotsCommand;
 import seedu.internsprint.logic.command.ByeCommand;
 import seedu.internsprint.logic.command.internship.EditCommand;
 import seedu.internsprint.logic.command.internship.SortInterviewCommand;
+import seedu.internsprint.logic.command.internship.StatsCommand;
 import seedu.internsprint.logic.command.user.UserProfileCommand;
 import seedu.internsprint.logic.command.internship.DeleteCommand;
 import seedu.internsprint.logic.command.internship.DescriptionCommand;
@@ -17,6 +21,7 @@ import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.logic.command.internship.FindCommand;
+import seedu.internsprint.logic.command.internship.SearchCommand;
 import seedu.internsprint.logic.command.user.ProjectGeneralCommand;
 import seedu.internsprint.logic.command.user.ProjectHardwareCommand;
 import seedu.internsprint.logic.command.user.ProjectSoftwareCommand;
@@ -46,90 +51,69 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.REPEATED_FLA
  */
 public class CommandParser {
     private static final Logger logger = InternSprintLogger.getLogger();
+    private static final CommandTrie COMMANDS = new CommandTrie();
+
+    static {
+        COMMANDS.register("add software", AddSoftwareInternshipCommand::new);
+        COMMANDS.register("add hardware", AddHardwareInternshipCommand::new);
+        COMMANDS.register("add general", AddGeneralInternshipCommand::new);
+        COMMANDS.register("interview for", AddInterviewCommand::new);
+        COMMANDS.register("sort interviews", SortInterviewCommand::new);
+        COMMANDS.register("clashes", ClashesCommand::new);
+        COMMANDS.register("free", FreeSlotsCommand::new);
+        COMMANDS.register("bye", ByeCommand::new);
+        COMMANDS.register("edit", EditCommand::new);
+        COMMANDS.register("list", ListCommand::new);
+        COMMANDS.register("find", FindCommand::new);
+        COMMANDS.register("search", SearchCommand::new);
+        COMMANDS.register("desc", DescriptionCommand::new);
+        COMMANDS.register("help", HelpCommand::new);
+        COMMANDS.register("stats", StatsCommand::new);
+        COMMANDS.register("delete", DeleteCommand::new);
+        COMMANDS.register("my", UserProfileCommand::new);
+        COMMANDS.register("view user", ViewUserCommand::new);
+        COMMANDS.register("project general", ProjectGeneralCommand::new);
+        COMMANDS.register("view general", ViewGeneralProjectsCommand::new);
+        COMMANDS.register("view software", ViewSoftwareProjectsCommand::new);
+        COMMANDS.register("view hardware", ViewHardwareProjectsCommand::new);
+        COMMANDS.register("project software", ProjectSoftwareCommand::new);
+        COMMANDS.register("project hardware", ProjectHardwareCommand::new);
+    }
 
     /**
      * Parses the user input and returns the corresponding Command object.
+     * The parse is recorded as a {@link CommandParseEvent} when the flight recorder is running.
      *
      * @param userInput User input string.
      * @return Command object corresponding to the user input.
      */
     public static Command parseCommand(String userInput) {
-        logger.log(Level.INFO, String.format("User command inside parseCommand: %s", userInput));
+        logger.log(Level.INFO, () -> String.format("User command inside parseCommand: %s", userInput));
         assert userInput != null : "User input should not be null";
 
-        String[] commandTypeAndParams = splitCommandTypeAndParams(userInput.trim());
-        assert commandTypeAndParams.length > 0 : "Command type should not be empty";
-
-        String commandType = commandTypeAndParams[0];
-        String params = commandTypeAndParams.length > 1 ? commandTypeAndParams[1] : "";
-
-        Command command;
-        switch (commandType) {
-        case "add software":
-            command = new AddSoftwareInternshipCommand();
-            break;
-        case "add hardware":
-            command = new AddHardwareInternshipCommand();
-            break;
-        case "add general":
-            command = new AddGeneralInternshipCommand();
-            break;
-        case "interview for":
-            command = new AddInterviewCommand();
-            break;
-        case "sort interviews":
-            command = new SortInterviewCommand();
-            break;
-        case "bye":
-            command = new ByeCommand();
-            break;
-        case "edit":
-            command = new EditCommand();
-            break;
-        case "list":
-            command = new ListCommand();
-            break;
-        case "find":
-            command = new FindCommand();
-            break;
-        case "desc":
-            command = new DescriptionCommand();
-            break;
-        case "help":
-            command = new HelpCommand();
-            break;
-        case "delete":
-            command = new DeleteCommand();
-            break;
-        case "my":
-            command = new UserProfileCommand();
-            break;
-        case "view user":
-            command = new ViewUserCommand();
-            break;
-        case "project general":
-            command = new ProjectGeneralCommand();
-            break;
-        case "view general":
-            command = new ViewGeneralProjectsCommand();
-            break;
-        case "view software":
-            command = new ViewSoftwareProjectsCommand();
-            break;
-        case "view hardware":
-            command = new ViewHardwareProjectsCommand();
-            break;
-        case "project software":
-            command = new ProjectSoftwareCommand();
-            break;
-        case "project hardware":
-            command = new ProjectHardwareCommand();
-            break;
-        default:
-            throw new IllegalArgumentException(INVALID_COMMAND_TYPE);
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+        String trimmedInput = userInput.trim();
+        CommandTrie.Match match = COMMANDS.match(trimmedInput);
+        Command command = null;
+        boolean isParsed = false;
+        try {
+            if (match.getFactory() == null) {
+                throw new IllegalArgumentException(INVALID_COMMAND_TYPE);
+            }
+            command = match.getFactory().get();
+            command.setCommandWord(match.getCommandType());
+            parseKeyValuePairs(match.getParams(trimmedInput), command);
+            isParsed = true;
+            return command;
+        } finally {
+            if (event.shouldCommit()) {
+                event.commandWord = match.getCommandType();
+                event.parameterCount = command == null ? 0 : command.getParameters().size();
+                event.isSuccessful = isParsed;
+                event.commit();
+            }
         }
-        parseKeyValuePairs(params, command);
-        return command;
     }
 
     /**
@@ -139,24 +123,17 @@ public class CommandParser {
      * @return Array containing the command type and the parameters.
      */
     protected static String[] splitCommandTypeAndParams(String userInput) {
-        String[] flagCommands = {"add software", "add hardware", "add general", "project general",
-            "project software", "project hardware", "view software", "view hardware", "view general",
-            "view user", "sort interviews", "interview for"};
-        for (String command : flagCommands) {
-            if (userInput.trim().toLowerCase().equals(command) ||
-                userInput.trim().toLowerCase().startsWith(command + " ")) {
-                return new String[]{command, userInput.substring(command.length()).trim()};
-            }
-        }
-        String[] commandTypeAndParams = userInput.split(" ", 2);
-        String commandType = commandTypeAndParams[0];
-        String params = commandTypeAndParams.length > 1 ? commandTypeAndParams[1] : "";
-
-        return new String[]{commandType.toLowerCase(), params};
+        String trimmedInput = userInput.trim();
+        CommandTrie.Match match = COMMANDS.match(trimmedInput);
+        return new String[]{match.getCommandType(), match.getParams(trimmedInput)};
     }
 
     /**
      * Parses the key-value pairs in the parameters string and sets them in the Command object.
+     * <p>
+     * The parameters are read in a single pass. A new part starts at every flag, which is a slash followed by
+     * a letter. Any text before the first flag is the description, and every other part is a flag followed by
+     * its value.
      *
      * @param params  Parameters string.
      * @param command Command object.
@@ -168,44 +145,87 @@ public class CommandParser {
             return;
         }
 
-        String[] parts = params.trim().split("(?=\\s*/[a-zA-Z]+)");
-        if (!parts[0].trim().startsWith("/")) {
-            logger.info("Found a parameter that is not part of a flag.");
-            keyValueMap.put("description", parts[0].trim());
-            if (parts.length == 1) {
-                command.setParameters(keyValueMap);
-                return;
-            }
-            parts = Arrays.copyOfRange(parts, 1, parts.length);
+        String text = params.trim();
+        if (text.isEmpty()) {
+            keyValueMap.put("description", text);
+            command.setParameters(keyValueMap);
+            return;
         }
-
-        for (String part : parts) {
-            if (part.trim().isEmpty()) {
+        boolean isFirstPart = true;
+        int partStart = 0;
+        for (int i = 1; i <= text.length(); i++) {
+            if (i < text.length() && !isFlagStart(text, i)) {
                 continue;
             }
-            String[] keyValue = part.trim().split("\\s+", 2);
-            if (keyValue.length < 2) {
-                logger.warning("Key found with no value.");
-                throw new IllegalArgumentException(String.format(MISSING_VALUE_INPUT, keyValue[0]));
+            int start = partStart;
+            int end = i;
+            partStart = i;
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                continue;
+            }
+            if (isFirstPart && text.charAt(start) != '/') {
+                logger.info("Found a parameter that is not part of a flag.");
+                keyValueMap.put("description", text.substring(start, end));
+            } else {
+                addKeyValuePair(text, start, end, keyValueMap);
             }
+            isFirstPart = false;
+        }
 
-            String key = keyValue[0].trim();
-            String value = keyValue[1].trim();
+        command.setParameters(keyValueMap);
+    }
 
-            if (keyValueMap.containsKey(key)) {
-                logger.warning("Repeated flag found.");
-                throw new IllegalArgumentException(String.format(REPEATED_FLAG, key));
-            }
+    /**
+     * Adds the flag and value written in the given part of the parameters to the map.
+     *
+     * @param text Parameters string.
+     * @param start Start of the part, which is not whitespace.
+     * @param end End of the part, after its last character that is not whitespace.
+     * @param keyValueMap Map of flags to their values.
+     */
+    private static void addKeyValuePair(String text, int start, int end, HashMap<String, String> keyValueMap) {
+        int keyEnd = start;
+        while (keyEnd < end && !isWhitespace(text.charAt(keyEnd))) {
+            keyEnd++;
+        }
+        if (keyEnd == end) {
+            logger.warning("Key found with no value.");
+            throw new IllegalArgumentException(String.format(MISSING_VALUE_INPUT, text.substring(start, end)));
+        }
 
-            if (value.contains("/")) {
-                logger.warning("'/' found in value.");
-                throw new IllegalArgumentException(ILLEGAL_VALUE_INPUT);
-            }
+        String key = text.substring(start, keyEnd).trim();
+        String value = text.substring(keyEnd, end).trim();
 
-            keyValueMap.put(key, value);
+        if (keyValueMap.containsKey(key)) {
+            logger.warning("Repeated flag found.");
+            throw new IllegalArgumentException(String.format(REPEATED_FLAG, key));
         }
 
-        command.setParameters(keyValueMap);
+        if (value.indexOf('/') >= 0) {
+            logger.warning("'/' found in value.");
+            throw new IllegalArgumentException(ILLEGAL_VALUE_INPUT);
+        }
+
+        keyValueMap.put(key, value);
+    }
+
+    private static boolean isFlagStart(String text, int index) {
+        if (text.charAt(index) != '/' || index + 1 >= text.length()) {
+            return false;
+        }
+        char letter = text.charAt(index + 1);
+        return (letter >= 'a' && letter <= 'z') || (letter >= 'A' && letter <= 'Z');
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t' || character == '\n' || character == '\u000B'
+                || character == '\f' || character == '\r';
     }
 
     /**
@@ -0,0 +1,122 @@
+package seedu.internsprint.logic.parser;
+
+import seedu.internsprint.logic.command.Command;
+
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+/**
+ * Maps the words that start a command to a factory for that command.
+ * <p>
+ * Each level of the trie holds one word of the command. The words of a command are separated by a single
+ * space and are matched without regard to case, and the last word must be followed by a space or by the
+ * end of the input.
+ */
+final class CommandTrie {
+    private final Node root = new Node(null);
+
+    /**
+     * Registers a command under the given words.
+     *
+     * @param commandType Words of the command, separated by single spaces, in lower case.
+     * @param factory Factory that creates the command.
+     */
+    void register(String commandType, Supplier<Command> factory) {
+        Node node = root;
+        int wordStart = 0;
+        while (wordStart <= commandType.length()) {
+            int wordEnd = commandType.indexOf(' ', wordStart);
+            if (wordEnd < 0) {
+                wordEnd = commandType.length();
+            }
+            String word = commandType.substring(wordStart, wordEnd);
+            String typeSoFar = commandType.substring(0, wordEnd);
+            node = node.children.computeIfAbsent(word, key -> new Node(typeSoFar));
+            wordStart = wordEnd + 1;
+        }
+        node.factory = factory;
+    }
+
+    /**
+     * Finds the longest registered command at the start of the input.
+     * If no command matches, the first word of the input is returned as the command type with no factory.
+     *
+     * @param input Trimmed user input.
+     * @return Match describing the command type and where its parameters start.
+     */
+    Match match(String input) {
+        int wordEnd = findWordEnd(input, 0);
+        String firstWord = input.substring(0, wordEnd).toLowerCase();
+        Node node = root.children.get(firstWord);
+        if (node == null) {
+            return new Match(firstWord, null, wordEnd);
+        }
+
+        Node matchedNode = node.factory == null ? null : node;
+        int matchedEnd = wordEnd;
+        while (!node.children.isEmpty() && wordEnd < input.length()) {
+            int nextWordEnd = findWordEnd(input, wordEnd + 1);
+            node = node.children.get(input.substring(wordEnd + 1, nextWordEnd).toLowerCase());
+            if (node == null) {
+                break;
+            }
+            wordEnd = nextWordEnd;
+            if (node.factory != null) {
+                matchedNode = node;
+                matchedEnd = wordEnd;
+            }
+        }
+        if (matchedNode == null) {
+            return new Match(firstWord, null, findWordEnd(input, 0));
+        }
+        return new Match(matchedNode.commandType, matchedNode.factory, matchedEnd);
+    }
+
+    private static int findWordEnd(String input, int wordStart) {
+        int wordEnd = input.indexOf(' ', wordStart);
+        return wordEnd < 0 ? input.length() : wordEnd;
+    }
+
+    /**
+     * Represents the command found at the start of an input.
+     */
+    static final class Match {
+        private final String commandType;
+        private final Supplier<Command> factory;
+        private final int end;
+
+        private Match(String commandType, Supplier<Command> factory, int end) {
+            this.commandType = commandType;
+            this.factory = factory;
+            this.end = end;
+        }
+
+        String getCommandType() {
+            return commandType;
+        }
+
+        /**
+         * Returns the factory of the matched command, or null if no registered command matched.
+         */
+        Supplier<Command> getFactory() {
+            return factory;
+        }
+
+        /**
+         * Returns the part of the input after the words of the command, trimmed.
+         */
+        String getParams(String input) {
+            return input.substring(end).trim();
+        }
+    }
+
+    private static final class Node {
+        private final String commandType;
+        private final HashMap<String, Node> children = new HashMap<>();
+        private Supplier<Command> factory;
+
+        private Node(String commandType) {
+            this.commandType = commandType;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.internsprint.logic.parser;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Parses the common numeric date and time formats by hand, without going through Natty.
+ * <p>
+ * Each method returns null when the input is not in one of the recognised formats, or does not describe a
+ * valid date or time, so that the caller can fall back to Natty. Dates written with slashes and the year
+ * last are read month first, the same way Natty reads them, so that both paths give the same result.
+ */
+final class DateTimeFastPath {
+    private static final int NOT_A_NUMBER = -1;
+
+    private DateTimeFastPath() {
+    }
+
+    /**
+     * Parses a date in the form yyyy-M-d, yyyy/M/d or M/d/yyyy.
+     *
+     * @param input The date input string.
+     * @return The parsed date, or null if the input is not in a recognised format.
+     */
+    static LocalDate parseDate(String input) {
+        String text = input.trim();
+        int length = text.length();
+        if (length >= 8 && length <= 10 && (text.charAt(4) == '-' || text.charAt(4) == '/')
+                && readNumber(text, 0, 4) != NOT_A_NUMBER) {
+            char separator = text.charAt(4);
+            int secondSeparator = text.indexOf(separator, 5);
+            if (secondSeparator < 0) {
+                return null;
+            }
+            return toDate(readNumber(text, 0, 4), readNumber(text, 5, secondSeparator),
+                    readNumber(text, secondSeparator + 1, length), secondSeparator - 5, length - secondSeparator - 1);
+        }
+        int firstSeparator = text.indexOf('/');
+        int secondSeparator = firstSeparator < 0 ? -1 : text.indexOf('/', firstSeparator + 1);
+        if (secondSeparator < 0 || length - secondSeparator - 1 != 4) {
+            return null;
+        }
+        return toDate(readNumber(text, secondSeparator + 1, length), readNumber(text, 0, firstSeparator),
+                readNumber(text, firstSeparator + 1, secondSeparator), firstSeparator,
+                secondSeparator - firstSeparator - 1);
+    }
+
+    /**
+     * Parses a time in the form H:mm, H:mm:ss, h:mm am or h am, with the am or pm in any case
+     * and with or without a space before it.
+     *
+     * @param input The time input string.
+     * @return The parsed time, or null if the input is not in a recognised format.
+     */
+    static LocalTime parseTime(String input) {
+        String text = input.trim();
+        int end = text.length();
+        boolean hasMeridiem = false;
+        boolean isAfternoon = false;
+        if (end >= 3) {
+            char first = Character.toLowerCase(text.charAt(end - 2));
+            char second = Character.toLowerCase(text.charAt(end - 1));
+            if ((first == 'a' || first == 'p') && second == 'm') {
+                hasMeridiem = true;
+                isAfternoon = first == 'p';
+                end -= 2;
+                if (text.charAt(end - 1) == ' ') {
+                    end--;
+                }
+            }
+        }
+
+        int firstColon = text.indexOf(':');
+        if (firstColon < 0 || firstColon >= end) {
+            if (!hasMeridiem || end > 2) {
+                return null;
+            }
+            return toTime(readNumber(text, 0, end), 0, 0, true, isAfternoon);
+        }
+        int hourDigits = firstColon;
+        if (hourDigits < 1 || hourDigits > 2) {
+            return null;
+        }
+        int secondColon = text.indexOf(':', firstColon + 1);
+        if (secondColon >= end) {
+            secondColon = -1;
+        }
+        int minuteEnd = secondColon < 0 ? end : secondColon;
+        if (minuteEnd - firstColon - 1 != 2 || (secondColon >= 0 && (hasMeridiem || end - secondColon - 1 != 2))) {
+            return null;
+        }
+        int second = secondColon < 0 ? 0 : readNumber(text, secondColon + 1, end);
+        return toTime(readNumber(text, 0, firstColon), readNumber(text, firstColon + 1, minuteEnd), second,
+                hasMeridiem, isAfternoon);
+    }
+
+    /**
+     * Parses a date and time, separated by a space or by the letter T, in any of the forms
+     * accepted by {@link #parseDate(String)} and {@link #parseTime(String)}.
+     *
+     * @param input The date and time input string.
+     * @return The parsed date and time, or null if the input is not in a recognised format.
+     */
+    static LocalDateTime parseDateTime(String input) {
+        String text = input.trim();
+        int separator = text.indexOf(' ');
+        if (separator < 0) {
+            separator = text.indexOf('T');
+        }
+        if (separator < 0) {
+            return null;
+        }
+        LocalDate date = parseDate(text.substring(0, separator));
+        if (date == null) {
+            return null;
+        }
+        LocalTime time = parseTime(text.substring(separator + 1));
+        return time == null ? null : date.atTime(time);
+    }
+
+    /**
+     * Reads the non-negative number written in the given part of the text.
+     *
+     * @return The number, or -1 if the part is empty or contains anything other than digits.
+     */
+    private static int readNumber(String text, int from, int to) {
+        if (from >= to || to - from > 4) {
+            return NOT_A_NUMBER;
+        }
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return NOT_A_NUMBER;
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    private static LocalDate toDate(int year, int month, int day, int monthDigits, int dayDigits) {
+        if (year < 0 || month < 0 || day < 0 || monthDigits > 2 || dayDigits > 2) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static LocalTime toTime(int hour, int minute, int second, boolean hasMeridiem, boolean isAfternoon) {
+        if (hour < 0 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        if (hasMeridiem) {
+            if (hour < 1 || hour > 12) {
+                return null;
+            }
+            hour = hour % 12 + (isAfternoon ? 12 : 0);
+        } else if (hour > 23) {
+            return null;
+        }
+        return LocalTime.of(hour, minute, second);
+    }
+}
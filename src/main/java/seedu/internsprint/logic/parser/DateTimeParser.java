@@ -1,19 +1,21 @@
 package seedu.internsprint.logic.parser;
 
+import seedu.internsprint.events.DateTimeParseEvent;
 import seedu.internsprint.util.InternSprintLogger;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
-import org.ocpsoft.prettytime.PrettyTime;
-
 import com.joestelmach.natty.DateGroup;
 import com.joestelmach.natty.Parser;
 
@@ -22,9 +24,25 @@ import static seedu.internsprint.util.InternSprintExceptionMessages.PARTIAL_DATE
 
 /**
  * Parses date and time input strings into LocalDateTime, LocalDate, and LocalTime objects.
+ * <p>
+ * Common numeric formats are parsed directly, and Natty is only used for any other input, such as
+ * natural language. Dates parsed by Natty are remembered for the rest of the day, since relative dates
+ * like "tomorrow" change from one day to the next. Every parse is recorded as a {@link DateTimeParseEvent}
+ * when the flight recorder is running.
  */
 public class DateTimeParser {
     private static final Logger logger = InternSprintLogger.getLogger();
+    private static final int MAX_REMEMBERED_DATES = 256;
+    private static final Map<String, RememberedDate> rememberedDates =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, RememberedDate> eldest) {
+                    return size() > MAX_REMEMBERED_DATES;
+                }
+            };
+    private static final RelativeTimeFormatter relativeTimeFormatter =
+            new RelativeTimeFormatter(Clock.systemDefaultZone());
+    private static Parser nattyParser;
 
     /**
      * Parses a date and time input string into a LocalDateTime object.
@@ -34,8 +52,19 @@ public class DateTimeParser {
      */
     public static LocalDateTime parseDateTimeInput(String input) {
         logger.info("Parsing date and time input");
-        Date date = extractDate(input);
-        return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        DateTimeParseEvent event = new DateTimeParseEvent();
+        event.begin();
+        LocalDateTime dateTime = DateTimeFastPath.parseDateTime(input);
+        boolean isFastPath = dateTime != null;
+        try {
+            if (dateTime == null) {
+                Date date = extractDate(input);
+                dateTime = LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+            }
+            return dateTime;
+        } finally {
+            commitEvent(event, "date and time", input, isFastPath, dateTime != null);
+        }
     }
 
     /**
@@ -46,8 +75,33 @@ public class DateTimeParser {
      */
     public static LocalDate parseDateInput(String input) {
         logger.info("Parsing date only input");
-        Date date = extractDate(input);
-        return LocalDate.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        DateTimeParseEvent event = new DateTimeParseEvent();
+        event.begin();
+        LocalDate date = DateTimeFastPath.parseDate(input);
+        boolean isFastPath = date != null;
+        try {
+            if (date == null) {
+                date = parseDateWithNatty(input);
+            }
+            return date;
+        } finally {
+            commitEvent(event, "date", input, isFastPath, date != null);
+        }
+    }
+
+    /**
+     * Parses a date that is not in a common numeric format, reusing the date parsed earlier today from the
+     * same input if there is one.
+     */
+    private static LocalDate parseDateWithNatty(String input) {
+        LocalDate today = LocalDate.now();
+        RememberedDate rememberedDate = rememberedDates.get(input);
+        if (rememberedDate != null && rememberedDate.parsedOn.equals(today)) {
+            return rememberedDate.date;
+        }
+        LocalDate date = LocalDate.ofInstant(extractDate(input).toInstant(), ZoneId.systemDefault());
+        rememberedDates.put(input, new RememberedDate(date, today));
+        return date;
     }
 
     /**
@@ -58,20 +112,35 @@ public class DateTimeParser {
      */
     public static LocalTime parseTimeInput(String input) {
         logger.info("Parsing time only input");
-        input = normalizeTimeInput(input);
-        Date date = extractDate(input);
-        return LocalTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+        DateTimeParseEvent event = new DateTimeParseEvent();
+        event.begin();
+        LocalTime time = DateTimeFastPath.parseTime(input);
+        boolean isFastPath = time != null;
+        try {
+            if (time == null) {
+                String normalizedInput = normalizeTimeInput(input);
+                time = DateTimeFastPath.parseTime(normalizedInput);
+                isFastPath = time != null;
+                if (time == null) {
+                    Date date = extractDate(normalizedInput);
+                    time = LocalTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+                }
+            }
+            return time;
+        } finally {
+            commitEvent(event, "time", input, isFastPath, time != null);
+        }
     }
 
     /**
      * Formats a LocalDateTime object into a human-readable string.
+     * The string is relative to the current minute, and is reused for the rest of that minute.
      *
      * @param dateTime The LocalDateTime object.
      * @return The formatted string.
      */
     public static String formatLocalDateTime(LocalDateTime dateTime) {
-        PrettyTime prettyTime = new PrettyTime();
-        return prettyTime.format(Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant()));
+        return relativeTimeFormatter.format(dateTime);
     }
 
     /**
@@ -81,8 +150,7 @@ public class DateTimeParser {
      * @return The formatted string.
      */
     public static String formatLocalDate(LocalDate date) {
-        PrettyTime prettyTime = new PrettyTime();
-        return prettyTime.format(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return relativeTimeFormatter.format(date);
     }
 
     /**
@@ -92,8 +160,21 @@ public class DateTimeParser {
      * @return The formatted string.
      */
     public static String formatLocalTime(LocalTime time) {
-        PrettyTime prettyTime = new PrettyTime();
-        return prettyTime.format(Date.from(time.atDate(LocalDate.now()).atZone(ZoneId.systemDefault()).toInstant()));
+        return relativeTimeFormatter.format(time);
+    }
+
+    /**
+     * Records a finished parse as a flight recorder event, if such events are being recorded.
+     */
+    private static void commitEvent(DateTimeParseEvent event, String kind, String input, boolean isFastPath,
+                                    boolean isSuccessful) {
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.input = input;
+            event.isFastPath = isFastPath;
+            event.isSuccessful = isSuccessful;
+            event.commit();
+        }
     }
 
     /**
@@ -105,11 +186,7 @@ public class DateTimeParser {
     private static Date extractDate(String input) {
         logger.info("Extracting date object from input");
 
-        ByteArrayOutputStream nattyErrorStream = new ByteArrayOutputStream();
-        System.setErr(new PrintStream(nattyErrorStream));
-
-        Parser parser = new Parser();
-        List<DateGroup> groups = parser.parse(input);
+        List<DateGroup> groups = getNattyParser().parse(input);
 
         if (groups.isEmpty()) {
             logger.warning("No date groups found");
@@ -126,6 +203,22 @@ public class DateTimeParser {
         return group.getDates().get(0);
     }
 
+    /**
+     * Returns the Natty parser, creating it on first use.
+     * Natty reports its progress on the standard error stream, so that stream is silenced when the parser
+     * is created.
+     *
+     * @return The Natty parser.
+     */
+    private static Parser getNattyParser() {
+        if (nattyParser == null) {
+            ByteArrayOutputStream nattyErrorStream = new ByteArrayOutputStream();
+            System.setErr(new PrintStream(nattyErrorStream));
+            nattyParser = new Parser();
+        }
+        return nattyParser;
+    }
+
     /**
      * Normalizes the time input string by replacing hyphens with colons and ensuring proper formatting.
      *
@@ -140,4 +233,16 @@ public class DateTimeParser {
         return normalized;
     }
 
+    /**
+     * Represents a date parsed by Natty and the day on which it was parsed.
+     */
+    private static final class RememberedDate {
+        private final LocalDate date;
+        private final LocalDate parsedOn;
+
+        private RememberedDate(LocalDate date, LocalDate parsedOn) {
+            this.date = date;
+            this.parsedOn = parsedOn;
+        }
+    }
 }
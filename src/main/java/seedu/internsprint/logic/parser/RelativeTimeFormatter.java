@@ -0,0 +1,82 @@
+package seedu.internsprint.logic.parser;
+
+import org.ocpsoft.prettytime.PrettyTime;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Formats dates and times relative to the current time, such as "3 days from now", using one shared
+ * PrettyTime instance.
+ * <p>
+ * Values are formatted relative to the start of the current minute, so the formatted string of a value
+ * stays the same for the whole minute and is cached until the minute is over.
+ */
+final class RelativeTimeFormatter {
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+    private static final int MAX_CACHED_VALUES = 4096;
+
+    private final Clock clock;
+    private final PrettyTime prettyTime = new PrettyTime();
+    private final HashMap<Temporal, String> formattedValues = new HashMap<>();
+    private long currentMinute = Long.MIN_VALUE;
+    private LocalDate today;
+
+    RelativeTimeFormatter(Clock clock) {
+        this.clock = clock;
+    }
+
+    synchronized String format(LocalDateTime dateTime) {
+        refreshIfMinuteIsOver();
+        return getFormattedValue(dateTime, dateTime);
+    }
+
+    synchronized String format(LocalDate date) {
+        refreshIfMinuteIsOver();
+        return getFormattedValue(date, date.atStartOfDay());
+    }
+
+    synchronized String format(LocalTime time) {
+        refreshIfMinuteIsOver();
+        return getFormattedValue(time, time.atDate(today));
+    }
+
+    /**
+     * Returns the cached string of the value, formatting the value if it has not been formatted this minute.
+     *
+     * @param value Value to be formatted, used as the key of the cache.
+     * @param dateTime Date and time the value represents.
+     * @return The formatted string.
+     */
+    private String getFormattedValue(Temporal value, LocalDateTime dateTime) {
+        String formattedValue = formattedValues.get(value);
+        if (formattedValue == null) {
+            if (formattedValues.size() >= MAX_CACHED_VALUES) {
+                formattedValues.clear();
+            }
+            formattedValue = prettyTime.format(Date.from(dateTime.atZone(clock.getZone()).toInstant()));
+            formattedValues.put(value, formattedValue);
+        }
+        return formattedValue;
+    }
+
+    /**
+     * Moves the reference time of the formatter to the current minute and empties the cache,
+     * if the minute of the last format is over.
+     */
+    private void refreshIfMinuteIsOver() {
+        long minute = Math.floorDiv(clock.millis(), MILLIS_PER_MINUTE);
+        if (minute == currentMinute) {
+            return;
+        }
+        currentMinute = minute;
+        formattedValues.clear();
+        prettyTime.setReference(new Date(minute * MILLIS_PER_MINUTE));
+        today = LocalDate.now(clock);
+    }
+}
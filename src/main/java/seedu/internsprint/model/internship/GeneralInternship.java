@@ -3,6 +3,7 @@ package seedu.internsprint.model.internship;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
 
@@ -84,6 +85,21 @@ public class GeneralInternship extends Internship {
                 && department.equals(generalInternship.getDepartment());
     }
 
+    /**
+     * Returns the hash code of the general internship, computed from the same fields as {@link #equals(Object)}.
+     *
+     * @return Hash code of the general internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, department);
+    }
+
+    @Override
+    public InternshipKey getKey() {
+        return new InternshipKey("general", companyName, role, department);
+    }
+
     /**
      * Returns a JSON object representing the general internship.
      *
@@ -3,6 +3,7 @@ package seedu.internsprint.model.internship;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
 
@@ -85,6 +86,21 @@ public class HardwareInternship extends Internship {
                 && embeddedSystems.equals(hardwareInternship.getEmbeddedSystems());
     }
 
+    /**
+     * Returns the hash code of the hardware internship, computed from the same fields as {@link #equals(Object)}.
+     *
+     * @return Hash code of the hardware internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, embeddedSystems);
+    }
+
+    @Override
+    public InternshipKey getKey() {
+        return new InternshipKey("hardware", companyName, role, embeddedSystems);
+    }
+
     /**
      * Converts the hardware internship to a JSON object.
      *
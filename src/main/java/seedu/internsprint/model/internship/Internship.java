@@ -25,7 +25,7 @@ public abstract class Internship {
     protected String expectations = null;
 
     protected Interview interview;
-    protected int internshipId;
+    protected int internshipId = -1;
 
     public Internship(String companyName, String role) {
         if (companyName == null || role == null || companyName.isBlank() || role.isBlank()) {
@@ -123,6 +123,22 @@ public abstract class Internship {
     @Override
     public abstract boolean equals(Object obj);
 
+    /**
+     * Returns the hash code of the internship, consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code of the internship.
+     */
+    @Override
+    public abstract int hashCode();
+
+    /**
+     * Returns the key identifying the internship when checking for duplicates.
+     * Two internships are equal exactly when their keys are equal.
+     *
+     * @return Key of the internship.
+     */
+    public abstract InternshipKey getKey();
+
     /**
      * Converts the internship to a JSON object.
      *
@@ -0,0 +1,61 @@
+package seedu.internsprint.model.internship;
+
+/**
+ * Represents a single change made to the internship list that has not been persisted yet.
+ * <p>
+ * A change identifies the affected internship by its type and its index within the list of that type, and
+ * holds the internship itself, whose ID identifies it when the change is replayed on top of the saved list.
+ */
+public class InternshipChange {
+    private final boolean isDeletion;
+    private final String type;
+    private final int index;
+    private final Internship internship;
+
+    private InternshipChange(boolean isDeletion, String type, int index, Internship internship) {
+        this.isDeletion = isDeletion;
+        this.type = type;
+        this.index = index;
+        this.internship = internship;
+    }
+
+    /**
+     * Creates a change that adds or replaces the internship at the given position.
+     *
+     * @param type Type of internship.
+     * @param index Index of the internship within the list of its type.
+     * @param internship Internship that is now at the given position.
+     * @return InternshipChange object.
+     */
+    public static InternshipChange put(String type, int index, Internship internship) {
+        return new InternshipChange(false, type, index, internship);
+    }
+
+    /**
+     * Creates a change that deletes the internship at the given position.
+     *
+     * @param type Type of internship.
+     * @param index Index of the internship within the list of its type.
+     * @param internship Internship that was deleted.
+     * @return InternshipChange object.
+     */
+    public static InternshipChange delete(String type, int index, Internship internship) {
+        return new InternshipChange(true, type, index, internship);
+    }
+
+    public boolean isDeletion() {
+        return isDeletion;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Internship getInternship() {
+        return internship;
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.internsprint.model.internship;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the fields that identify an internship when checking for duplicates.
+ * <p>
+ * A key is a snapshot of the fields at the time it is created, and its hash code is computed once,
+ * so it can be kept in a hash set even after the internship it was created from is edited.
+ */
+public final class InternshipKey {
+    private final String type;
+    private final List<String> fields;
+    private final int hash;
+
+    public InternshipKey(String type, String... fields) {
+        this.type = type;
+        this.fields = Arrays.asList(fields);
+        this.hash = Objects.hash(type, this.fields);
+    }
+
+    /**
+     * Returns true if both keys are of the same type of internship and have the same fields.
+     *
+     * @param obj Object to compare with.
+     * @return True if the keys are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        InternshipKey other = (InternshipKey) obj;
+        return hash == other.hash && type.equals(other.type) && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
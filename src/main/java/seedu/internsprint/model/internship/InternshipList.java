@@ -2,43 +2,77 @@ package seedu.internsprint.model.internship;
 
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.internship.interview.InterviewTimeline;
 import seedu.internsprint.storage.InternshipStorageHandler;
 import seedu.internsprint.storage.StorageManager;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERNSHIP;
+import static seedu.internsprint.util.InternSprintExceptionMessages.INTERNSHIP_ID_NOT_FOUND;
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
 
 /**
  * Represents the list of internships.
+ * <p>
+ * Besides the changes to be journalled, the list keeps track of whether the internships and the interviews have
+ * changed since they were last written to their data files, so that a save can skip the files whose content
+ * would not change.
  */
 public class InternshipList {
     protected final HashMap<String, ArrayList<Internship>> internshipMap = new HashMap<>();
+    protected final HashMap<Integer, Internship> internshipIdIndex = new HashMap<>();
+    protected final HashMap<String, HashSet<InternshipKey>> internshipKeys = new HashMap<>();
+    protected final HashMap<Integer, InternshipKey> internshipKeysById = new HashMap<>();
+    protected final InternshipTextIndex companyNameIndex = new InternshipTextIndex();
+    protected final InternshipTextIndex roleIndex = new InternshipTextIndex();
+    protected final InternshipSearchIndex searchIndex = new InternshipSearchIndex();
     protected int internshipCount = 0;
+    protected int nextInternshipId = 0;
+    protected InterviewTimeline interviewTimeline = null;
+    protected final ArrayList<InternshipChange> pendingChanges = new ArrayList<>();
+    protected boolean hasUnsavedInternships = false;
+    protected boolean hasUnsavedInterviews = false;
     private final StorageManager storageManager = StorageManager.getInstance();
 
     public InternshipList( ) {
         internshipMap.put("software", new ArrayList<>());
         internshipMap.put("hardware", new ArrayList<>());
         internshipMap.put("general", new ArrayList<>());
+        internshipKeys.put("software", new HashSet<>());
+        internshipKeys.put("hardware", new HashSet<>());
+        internshipKeys.put("general", new HashSet<>());
     }
 
     /**
      * Adds an internship to the list.
+     * The internship keeps its ID if it already has one that is not in use, such as when it is loaded
+     * from storage. Otherwise, it is given a new ID that has not been used before.
      *
      * @param internship Internship to be added.
      */
     public void addInternship(Internship internship) throws DuplicateEntryException {
         String type = internship.getType();
-        if (internshipMap.get(type).contains(internship)) {
+        InternshipKey key = internship.getKey();
+        if (internshipKeys.get(type).contains(key)) {
             throw new DuplicateEntryException(DUPLICATE_INTERNSHIP);
         }
-        internship.setInternshipId(internshipCount);
+        assignInternshipId(internship);
         internshipMap.get(type).add(internship);
+        internshipIdIndex.put(internship.getInternshipId(), internship);
+        internshipKeys.get(type).add(key);
+        internshipKeysById.put(internship.getInternshipId(), key);
+        indexText(internship);
         internshipCount++;
+        pendingChanges.add(InternshipChange.put(type, internshipMap.get(type).size() - 1, internship));
+        hasUnsavedInternships = true;
+        hasUnsavedInterviews |= internship.getInterview() != null;
         assert contains(internship) : "Internship should be in the list";
         assert internshipCount > 0 : "At least one internship should be in the list";
     }
@@ -50,7 +84,32 @@ public class InternshipList {
      */
     public void addInterview(Interview interview) {
         int internshipId = interview.getInternshipId();
-        getInternshipById(internshipId).setInterview(interview);
+        Internship internship = getInternshipById(internshipId);
+        if (internship == null) {
+            throw new IllegalArgumentException(String.format(INTERNSHIP_ID_NOT_FOUND, internshipId));
+        }
+        internship.setInterview(interview);
+        if (interviewTimeline != null) {
+            interviewTimeline.addInternship(internship);
+        }
+        hasUnsavedInterviews = true;
+    }
+
+    /**
+     * Adds an interview round to an internship in the list.
+     * If the internship already has an interview, the interview is added as its next round.
+     *
+     * @param internship Internship to add the interview to.
+     * @param interview Interview to be added.
+     * @throws DuplicateEntryException If the internship already has an interview at the same date and time.
+     */
+    public void addInterview(Internship internship, Interview interview) throws DuplicateEntryException {
+        internship.addInterview(interview);
+        if (interviewTimeline != null) {
+            interviewTimeline.addInternship(internship);
+        }
+        recordUpdate(internship);
+        hasUnsavedInterviews = true;
     }
 
     /**
@@ -60,11 +119,79 @@ public class InternshipList {
      * @param index Index of internship to be deleted.
      */
     public void deleteInternship(String type, int index) {
-        internshipMap.get(type).remove(index);
+        Internship deletedInternship = internshipMap.get(type).remove(index);
+        internshipIdIndex.remove(deletedInternship.getInternshipId());
+        internshipKeys.get(type).remove(internshipKeysById.remove(deletedInternship.getInternshipId()));
+        companyNameIndex.remove(deletedInternship.getInternshipId());
+        roleIndex.remove(deletedInternship.getInternshipId());
+        searchIndex.remove(deletedInternship.getInternshipId());
+        if (interviewTimeline != null) {
+            interviewTimeline.removeInternship(deletedInternship);
+        }
         internshipCount--;
+        pendingChanges.add(InternshipChange.delete(type, index, deletedInternship));
+        hasUnsavedInternships = true;
+        hasUnsavedInterviews |= deletedInternship.getInterview() != null;
         assert internshipCount >= 0 : "Internship count should not be negative";
     }
 
+    /**
+     * Replaces the internship at the given position, keeping the ID of the internship it replaces.
+     *
+     * @param type Type of internship.
+     * @param index Index of internship to be replaced.
+     * @param internship Internship to be placed at the given position.
+     */
+    public void replaceInternship(String type, int index, Internship internship) {
+        Internship replacedInternship = internshipMap.get(type).set(index, internship);
+        internship.setInternshipId(replacedInternship.getInternshipId());
+        internshipIdIndex.put(internship.getInternshipId(), internship);
+        updateKey(internship);
+        indexText(internship);
+        if (interviewTimeline != null) {
+            interviewTimeline.removeInternship(replacedInternship);
+            interviewTimeline.addInternship(internship);
+        }
+        pendingChanges.add(InternshipChange.put(type, index, internship));
+        hasUnsavedInternships = true;
+        hasUnsavedInterviews |= internship.getInterview() != replacedInternship.getInterview();
+    }
+
+    /**
+     * Records that the fields of an internship in the list have been edited in place, after checking that
+     * the edit does not make it a duplicate of another internship of the same type.
+     *
+     * @param internship Internship that has been edited.
+     * @throws DuplicateEntryException If another internship of the same type has the same details.
+     */
+    public void updateInternship(Internship internship) throws DuplicateEntryException {
+        InternshipKey oldKey = internshipKeysById.get(internship.getInternshipId());
+        InternshipKey newKey = internship.getKey();
+        if (!newKey.equals(oldKey) && internshipKeys.get(internship.getType()).contains(newKey)) {
+            throw new DuplicateEntryException(DUPLICATE_INTERNSHIP);
+        }
+        updateKey(internship);
+        indexText(internship);
+        recordUpdate(internship);
+        hasUnsavedInternships = true;
+    }
+
+    /**
+     * Records a change that puts the modified internship back at its position in the list.
+     *
+     * @param internship Internship that has been modified.
+     */
+    private void recordUpdate(Internship internship) {
+        String type = internship.getType();
+        ArrayList<Internship> internships = internshipMap.get(type);
+        for (int i = 0; i < internships.size(); i++) {
+            if (internships.get(i) == internship) {
+                pendingChanges.add(InternshipChange.put(type, i, internship));
+                return;
+            }
+        }
+    }
+
     /**
      * Checks if the list contains the internship.
      *
@@ -73,7 +200,64 @@ public class InternshipList {
      */
     public boolean contains(Internship internship) {
         String type = internship.getType();
-        return internshipMap.get(type).contains(internship);
+        return internshipKeys.get(type).contains(internship.getKey());
+    }
+
+    /**
+     * Finds the internships of the given type whose company name and role contain the given text,
+     * ignoring case. Blank criteria are not used to filter the internships.
+     * The internships found are ordered by type as in the internship map, then in the order they were added.
+     *
+     * @param type Type of internship, in lower case.
+     * @param companyName Text the company name should contain.
+     * @param role Text the role should contain.
+     * @return List of internships found.
+     */
+    public ArrayList<Internship> findInternships(String type, String companyName, String role) {
+        Set<Integer> foundIds = null;
+        if (!companyName.isEmpty()) {
+            foundIds = new HashSet<>(companyNameIndex.find(companyName));
+        }
+        if (!role.isEmpty()) {
+            Set<Integer> roleIds = roleIndex.find(role);
+            if (foundIds == null) {
+                foundIds = new HashSet<>(roleIds);
+            } else {
+                foundIds.retainAll(roleIds);
+            }
+        }
+
+        ArrayList<Internship> foundInternships = new ArrayList<>();
+        for (String internshipType : internshipMap.keySet()) {
+            if (!type.isEmpty() && !internshipType.contains(type)) {
+                continue;
+            }
+            if (foundIds == null) {
+                foundInternships.addAll(internshipMap.get(internshipType));
+                continue;
+            }
+            foundIds.stream()
+                    .map(internshipIdIndex::get)
+                    .filter(internship -> internship.getType().equals(internshipType))
+                    .sorted(Comparator.comparingInt(Internship::getInternshipId))
+                    .forEach(foundInternships::add);
+        }
+        return foundInternships;
+    }
+
+    /**
+     * Ranks the internships by how well their description, eligibility and expectations match the query.
+     *
+     * @param query Free-text query.
+     * @param limit Maximum number of internships to return.
+     * @return List of the best matching internships, from the best match to the worst.
+     */
+    public ArrayList<Internship> searchInternships(String query, int limit) {
+        ArrayList<Internship> foundInternships = new ArrayList<>();
+        for (int internshipId : searchIndex.search(query, limit)) {
+            foundInternships.add(internshipIdIndex.get(internshipId));
+        }
+        return foundInternships;
     }
 
     /**
@@ -81,8 +265,7 @@ public class InternshipList {
      */
     public void saveInternships() throws IOException {
         try {
-            storageManager.saveInternshipData(this);
-            storageManager.saveInterviewData(this);
+            storageManager.commitInternshipChanges(this);
         } catch (IOException e) {
             throw new IOException(String.format(UNABLE_TO_WRITE_FILE, InternshipStorageHandler.FILE_PATH));
         }
@@ -95,14 +278,64 @@ public class InternshipList {
      * @return Internship with the given ID.
      */
     public Internship getInternshipById(int internshipId) {
-        for (ArrayList<Internship> internships : internshipMap.values()) {
-            for (Internship internship : internships) {
-                if (internship.getInternshipId() == internshipId) {
-                    return internship;
-                }
+        return internshipIdIndex.get(internshipId);
+    }
+
+    /**
+     * Indexes the text of the internship for {@link #findInternships} and {@link #searchInternships}.
+     *
+     * @param internship Internship to be indexed.
+     */
+    private void indexText(Internship internship) {
+        companyNameIndex.add(internship.getInternshipId(), internship.getCompanyName());
+        roleIndex.add(internship.getInternshipId(), internship.getRole());
+        searchIndex.add(internship);
+    }
+
+    /**
+     * Replaces the duplicate-check key stored for the internship with one built from its current fields.
+     *
+     * @param internship Internship whose key is to be updated.
+     */
+    private void updateKey(Internship internship) {
+        HashSet<InternshipKey> keys = internshipKeys.get(internship.getType());
+        InternshipKey newKey = internship.getKey();
+        InternshipKey oldKey = internshipKeysById.put(internship.getInternshipId(), newKey);
+        if (oldKey != null) {
+            keys.remove(oldKey);
+        }
+        keys.add(newKey);
+    }
+
+    /**
+     * Makes sure the internship has an ID that no other internship in the list uses, and keeps the next
+     * ID to be given out above every ID in use so that IDs are never reused.
+     *
+     * @param internship Internship to be given an ID.
+     */
+    private void assignInternshipId(Internship internship) {
+        int internshipId = internship.getInternshipId();
+        if (internshipId < 0 || internshipIdIndex.containsKey(internshipId)) {
+            internshipId = nextInternshipId;
+            internship.setInternshipId(internshipId);
+        }
+        nextInternshipId = Math.max(nextInternshipId, internshipId + 1);
+    }
+
+    /**
+     * Gets the chronological timeline of all interview rounds of all internships.
+     * The timeline is built on first use, and kept up to date by the list from then on.
+     *
+     * @return Timeline of interviews.
+     */
+    public InterviewTimeline getInterviewTimeline() {
+        if (interviewTimeline == null) {
+            interviewTimeline = new InterviewTimeline();
+            for (ArrayList<Internship> internships : internshipMap.values()) {
+                internships.forEach(interviewTimeline::addInternship);
             }
         }
-        return null;
+        return interviewTimeline;
     }
 
     /**
@@ -129,4 +362,47 @@ public class InternshipList {
     public int getInternshipCount() {
         return internshipCount;
     }
+
+    public List<InternshipChange> getPendingChanges() {
+        return pendingChanges;
+    }
+
+    /**
+     * Discards the recorded changes once they have been persisted.
+     */
+    public void clearPendingChanges() {
+        pendingChanges.clear();
+    }
+
+    /**
+     * Checks if any internship has changed since the internships were last written to their data file.
+     *
+     * @return True if the internship data file is out of date, false otherwise.
+     */
+    public boolean hasUnsavedInternships() {
+        return hasUnsavedInternships;
+    }
+
+    /**
+     * Checks if any interview has changed since the interviews were last written to their data file.
+     *
+     * @return True if the interview data file is out of date, false otherwise.
+     */
+    public boolean hasUnsavedInterviews() {
+        return hasUnsavedInterviews;
+    }
+
+    /**
+     * Records that the internships have been written to their data file.
+     */
+    public void markInternshipsSaved() {
+        hasUnsavedInternships = false;
+    }
+
+    /**
+     * Records that the interviews have been written to their data file.
+     */
+    public void markInterviewsSaved() {
+        hasUnsavedInterviews = false;
+    }
 }
@@ -0,0 +1,151 @@
+package seedu.internsprint.model.internship;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Represents a full-text index over the description, eligibility and expectations of internships,
+ * used to rank internships against a free-text query with the BM25 scoring function.
+ * <p>
+ * The index keeps, for every word, the number of times it appears in each internship, so that a query only
+ * looks at internships that contain at least one of its words. The best results are kept in a heap bounded
+ * by the number of results requested, instead of sorting every internship that matched.
+ */
+public class InternshipSearchIndex {
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    private static final double LENGTH_NORMALIZATION = 0.75;
+
+    private final HashMap<String, HashMap<Integer, Integer>> postings = new HashMap<>();
+    private final HashMap<Integer, HashMap<String, Integer>> termFrequencies = new HashMap<>();
+    private final HashMap<Integer, Integer> documentLengths = new HashMap<>();
+    private long totalDocumentLength = 0;
+
+    /**
+     * Indexes the text fields of the internship, replacing anything indexed for it before.
+     *
+     * @param internship Internship to be indexed.
+     */
+    public void add(Internship internship) {
+        int internshipId = internship.getInternshipId();
+        remove(internshipId);
+
+        List<String> words = new ArrayList<>();
+        words.addAll(tokenize(internship.getDescription()));
+        words.addAll(tokenize(internship.getEligibility()));
+        words.addAll(tokenize(internship.getExpectations()));
+        if (words.isEmpty()) {
+            return;
+        }
+
+        HashMap<String, Integer> frequencies = new HashMap<>();
+        for (String word : words) {
+            frequencies.merge(word, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(internshipId, entry.getValue());
+        }
+        termFrequencies.put(internshipId, frequencies);
+        documentLengths.put(internshipId, words.size());
+        totalDocumentLength += words.size();
+    }
+
+    /**
+     * Removes everything indexed for the internship with the given ID.
+     *
+     * @param internshipId ID of the internship.
+     */
+    public void remove(int internshipId) {
+        HashMap<String, Integer> frequencies = termFrequencies.remove(internshipId);
+        if (frequencies == null) {
+            return;
+        }
+        for (String word : frequencies.keySet()) {
+            HashMap<Integer, Integer> wordPostings = postings.get(word);
+            wordPostings.remove(internshipId);
+            if (wordPostings.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        totalDocumentLength -= documentLengths.remove(internshipId);
+    }
+
+    /**
+     * Returns the IDs of the internships that best match the query, from the best match to the worst.
+     * Internships with the same score are ordered by ID.
+     *
+     * @param query Free-text query.
+     * @param limit Maximum number of results to return.
+     * @return IDs of the best matching internships.
+     */
+    public List<Integer> search(String query, int limit) {
+        Set<String> queryWords = new LinkedHashSet<>(tokenize(query));
+        if (queryWords.isEmpty() || documentLengths.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        int documentCount = documentLengths.size();
+        double averageLength = (double) totalDocumentLength / documentCount;
+        HashMap<Integer, Double> scores = new HashMap<>();
+        for (String word : queryWords) {
+            HashMap<Integer, Integer> wordPostings = postings.get(word);
+            if (wordPostings == null) {
+                continue;
+            }
+            double inverseDocumentFrequency = Math.log(1 + (documentCount - wordPostings.size() + 0.5)
+                    / (wordPostings.size() + 0.5));
+            for (Map.Entry<Integer, Integer> entry : wordPostings.entrySet()) {
+                double frequency = entry.getValue();
+                double lengthRatio = documentLengths.get(entry.getKey()) / averageLength;
+                double score = inverseDocumentFrequency * frequency * (TERM_FREQUENCY_SATURATION + 1)
+                        / (frequency + TERM_FREQUENCY_SATURATION
+                        * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio));
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        Comparator<Map.Entry<Integer, Double>> byRank = Map.Entry.<Integer, Double>comparingByValue()
+                .reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Integer, Double>> bestMatches = new PriorityQueue<>(byRank.reversed());
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            bestMatches.offer(entry);
+            if (bestMatches.size() > limit) {
+                bestMatches.poll();
+            }
+        }
+
+        List<Map.Entry<Integer, Double>> rankedMatches = new ArrayList<>(bestMatches);
+        rankedMatches.sort(byRank);
+        List<Integer> internshipIds = new ArrayList<>();
+        for (Map.Entry<Integer, Double> entry : rankedMatches) {
+            internshipIds.add(entry.getKey());
+        }
+        return internshipIds;
+    }
+
+    /**
+     * Splits the text into lower-case words made of letters and digits.
+     *
+     * @param text Text to split.
+     * @return List of words in the text.
+     */
+    private static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.internsprint.model.internship;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents an inverted index over one text field of the internships in a list, used to find the
+ * internships whose field contains a given piece of text.
+ * <p>
+ * Every character sequence of up to three characters in the lower-cased field is mapped to the IDs of the
+ * internships containing it. Queries of up to three characters are answered by a single lookup, and
+ * longer queries by intersecting the lists of their three-character sequences, so a query only looks at
+ * internships that share text with it.
+ */
+public class InternshipTextIndex {
+    private static final int MAX_GRAM_LENGTH = 3;
+    private final HashMap<String, HashSet<Integer>> postings = new HashMap<>();
+    private final HashMap<Integer, String> indexedText = new HashMap<>();
+
+    /**
+     * Indexes the text of the internship with the given ID, replacing any text indexed for it before.
+     *
+     * @param internshipId ID of the internship.
+     * @param text Text to be indexed.
+     */
+    public void add(int internshipId, String text) {
+        remove(internshipId);
+        String normalizedText = normalize(text);
+        indexedText.put(internshipId, normalizedText);
+        for (String gram : getGrams(normalizedText)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(internshipId);
+        }
+    }
+
+    /**
+     * Removes the text indexed for the internship with the given ID.
+     *
+     * @param internshipId ID of the internship.
+     */
+    public void remove(int internshipId) {
+        String normalizedText = indexedText.remove(internshipId);
+        if (normalizedText == null) {
+            return;
+        }
+        for (String gram : getGrams(normalizedText)) {
+            HashSet<Integer> internshipIds = postings.get(gram);
+            internshipIds.remove(internshipId);
+            if (internshipIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Finds the internships whose indexed text contains the query, ignoring case.
+     *
+     * @param query Text to search for.
+     * @return IDs of the internships found.
+     */
+    public Set<Integer> find(String query) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.length() <= MAX_GRAM_LENGTH) {
+            return Collections.unmodifiableSet(postings.getOrDefault(normalizedQuery, new HashSet<>()));
+        }
+
+        List<HashSet<Integer>> gramPostings = new ArrayList<>();
+        for (int i = 0; i + MAX_GRAM_LENGTH <= normalizedQuery.length(); i++) {
+            HashSet<Integer> internshipIds = postings.get(normalizedQuery.substring(i, i + MAX_GRAM_LENGTH));
+            if (internshipIds == null) {
+                return Collections.emptySet();
+            }
+            gramPostings.add(internshipIds);
+        }
+        gramPostings.sort(Comparator.comparingInt(HashSet::size));
+
+        Set<Integer> found = new HashSet<>();
+        for (int internshipId : gramPostings.get(0)) {
+            boolean isInAllPostings = gramPostings.stream().allMatch(ids -> ids.contains(internshipId));
+            if (isInAllPostings && indexedText.get(internshipId).contains(normalizedQuery)) {
+                found.add(internshipId);
+            }
+        }
+        return found;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    /**
+     * Returns every distinct character sequence of up to three characters in the text.
+     *
+     * @param text Text to split.
+     * @return Set of character sequences.
+     */
+    private static Set<String> getGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.internsprint.model.internship;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.json.JSONObject;
 
@@ -84,6 +85,21 @@ public class SoftwareInternship extends Internship {
                 && techStack.equals(softwareInternship.getTechStack());
     }
 
+    /**
+     * Returns the hash code of the software internship, computed from the same fields as {@link #equals(Object)}.
+     *
+     * @return Hash code of the software internship.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(companyName, role, techStack);
+    }
+
+    @Override
+    public InternshipKey getKey() {
+        return new InternshipKey("software", companyName, role, techStack);
+    }
+
     /**
      * Returns a JSON object representing the software internship.
      *
@@ -0,0 +1,42 @@
+package seedu.internsprint.model.internship.interview;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Represents a window of time on a date during which no interview is scheduled.
+ */
+public class FreeTimeSlot {
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public FreeTimeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        assert startTime.isBefore(endTime) : "A free time slot should start before it ends";
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public long getLengthInMinutes() {
+        return Duration.between(startTime, endTime).toMinutes();
+    }
+
+    @Override
+    public String toString() {
+        return date + ", " + startTime + " to " + endTime + " (" + getLengthInMinutes() + " minutes)";
+    }
+}
@@ -2,16 +2,14 @@ package seedu.internsprint.model.internship.interview;
 
 import org.json.JSONObject;
 
-import de.vandermeer.asciitable.AsciiTable;
-import de.vandermeer.asciitable.CWC_LongestLine;
 import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.parser.DateTimeParser;
 import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.TableWriter;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.logging.Logger;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.DUPLICATE_INTERVIEW;
@@ -141,17 +139,15 @@ public class Interview {
         ArrayList<String> interviewString = new ArrayList<>();
         interviewString.add("Interview details:");
 
-        AsciiTable at = new AsciiTable();
-
-        CWC_LongestLine cwc = new CWC_LongestLine();
-        cwc.add(7, 7);   // Round No.
-        cwc.add(12, 12); // Interview Date
-        cwc.add(10, 10); // Start Time
-        cwc.add(10, 10); // End Time
-        cwc.add(10, 10); // Interview Type
-        cwc.add(25, 25); // Interviewer Email
-        cwc.add(30, 30); // Notes
-        at.getRenderer().setCWC(cwc);
+        TableWriter at = new TableWriter(interviewString::add,
+            7,  // Round No.
+            12, // Interview Date
+            10, // Start Time
+            10, // End Time
+            10, // Interview Type
+            25, // Interviewer Email
+            30  // Notes
+        );
 
         at.addRule();
         at.addRow("Round No.", "Interview Date", "Start Time", "End Time",
@@ -183,7 +179,7 @@ public class Interview {
                 at.addRule();
             }
         }
-        interviewString.addAll(Arrays.asList(at.renderAsArray()));
+        at.finish();
 
         return interviewString;
     }
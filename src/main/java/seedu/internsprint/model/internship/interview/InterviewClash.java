@@ -0,0 +1,27 @@
+package seedu.internsprint.model.internship.interview;
+
+/**
+ * Represents two interview rounds whose times overlap on the same date.
+ */
+public class InterviewClash {
+    private final InterviewEntry earlierEntry;
+    private final InterviewEntry laterEntry;
+
+    public InterviewClash(InterviewEntry earlierEntry, InterviewEntry laterEntry) {
+        this.earlierEntry = earlierEntry;
+        this.laterEntry = laterEntry;
+    }
+
+    public InterviewEntry getEarlierEntry() {
+        return earlierEntry;
+    }
+
+    public InterviewEntry getLaterEntry() {
+        return laterEntry;
+    }
+
+    @Override
+    public String toString() {
+        return earlierEntry + " overlaps with " + laterEntry;
+    }
+}
@@ -18,4 +18,16 @@ public class InterviewEntry {
     public Interview getInterview() {
         return interview;
     }
+
+    /**
+     * Returns a one line summary of the interview round and the internship it belongs to.
+     *
+     * @return A string containing the company, role, round name, date and time of the interview.
+     */
+    @Override
+    public String toString() {
+        return internship.getCompanyName() + " (" + internship.getRole() + ") " + interview.getInterviewType()
+                + " on " + interview.getUnformattedInterviewDate() + ", "
+                + interview.getUnformattedInterviewStartTime() + " to " + interview.getUnformattedInterviewEndTime();
+    }
 }
@@ -0,0 +1,267 @@
+package seedu.internsprint.model.internship.interview;
+
+import seedu.internsprint.model.internship.Internship;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Represents every interview round of every internship in a list, kept in chronological order.
+ * <p>
+ * Rounds are ordered by date and start time, then by the ID of their internship and their position in the
+ * internship's chain of rounds. Listing the rounds is a walk over the sorted set, and listing the rounds
+ * within a range of dates only visits the rounds in that range.
+ * <p>
+ * The timeline also remembers the longest round held on each date. Since a round can only overlap another
+ * round that starts less than that long before it, the rounds overlapping a given time are found by visiting
+ * only the rounds that start within that window.
+ */
+public class InterviewTimeline {
+    private static final Comparator<Slot> CHRONOLOGICAL_ORDER = Comparator
+            .comparing((Slot slot) -> slot.date)
+            .thenComparing(slot -> slot.startTime)
+            .thenComparingInt(slot -> slot.internshipId)
+            .thenComparingInt(slot -> slot.round)
+            .thenComparingLong(slot -> slot.sequence);
+    private static final Comparator<Slot> END_TIME_ORDER = Comparator
+            .comparing((Slot slot) -> slot.endTime)
+            .thenComparing(CHRONOLOGICAL_ORDER);
+
+    private final TreeSet<Slot> slots = new TreeSet<>(CHRONOLOGICAL_ORDER);
+    private final IdentityHashMap<Internship, List<Slot>> slotsByInternship = new IdentityHashMap<>();
+    private final HashMap<LocalDate, Integer> longestRoundByDate = new HashMap<>();
+    private long nextSequence = 0;
+
+    /**
+     * Adds every interview round of the internship to the timeline, replacing any rounds added for it before.
+     *
+     * @param internship Internship whose interviews are to be added.
+     */
+    public void addInternship(Internship internship) {
+        removeInternship(internship);
+        if (internship.getInterview() == null) {
+            return;
+        }
+        List<Interview> rounds = new ArrayList<>();
+        collectRounds(internship.getInterview(), rounds);
+
+        List<Slot> internshipSlots = new ArrayList<>();
+        for (int round = 0; round < rounds.size(); round++) {
+            Slot slot = new Slot(internship, rounds.get(round), round, nextSequence++);
+            internshipSlots.add(slot);
+            slots.add(slot);
+            longestRoundByDate.merge(slot.date, slot.getLengthInSeconds(), Math::max);
+        }
+        slotsByInternship.put(internship, internshipSlots);
+    }
+
+    /**
+     * Removes every interview round of the internship from the timeline.
+     *
+     * @param internship Internship whose interviews are to be removed.
+     */
+    public void removeInternship(Internship internship) {
+        List<Slot> internshipSlots = slotsByInternship.remove(internship);
+        if (internshipSlots != null) {
+            internshipSlots.forEach(slots::remove);
+        }
+    }
+
+    /**
+     * Returns the interview rounds taking place between the given dates, in chronological order.
+     *
+     * @param from Earliest date of the interviews, inclusive, or null for no lower bound.
+     * @param to Latest date of the interviews, inclusive, or null for no upper bound.
+     * @return List of interview rounds paired with their internships.
+     */
+    public List<InterviewEntry> getInterviews(LocalDate from, LocalDate to) {
+        NavigableSet<Slot> range = slots;
+        if (from != null) {
+            range = range.tailSet(Slot.boundary(from, LocalTime.MIN, Integer.MIN_VALUE), true);
+        }
+        if (to != null) {
+            range = range.headSet(Slot.boundary(to, LocalTime.MAX, Integer.MAX_VALUE), true);
+        }
+        List<InterviewEntry> entries = new ArrayList<>();
+        for (Slot slot : range) {
+            entries.add(slot.toEntry());
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the interview rounds that overlap the given time on the given date, in chronological order.
+     * A round that ends exactly when another starts does not overlap it.
+     *
+     * @param date Date of the time to check.
+     * @param startTime Start of the time to check.
+     * @param endTime End of the time to check.
+     * @return List of overlapping interview rounds paired with their internships.
+     */
+    public List<InterviewEntry> getOverlappingInterviews(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        List<InterviewEntry> entries = new ArrayList<>();
+        Integer longestRound = longestRoundByDate.get(date);
+        if (longestRound == null) {
+            return entries;
+        }
+        LocalTime earliestStart = LocalTime.ofSecondOfDay(Math.max(0, startTime.toSecondOfDay() - longestRound));
+        NavigableSet<Slot> candidates = slots.subSet(Slot.boundary(date, earliestStart, Integer.MIN_VALUE), true,
+                Slot.boundary(date, endTime, Integer.MIN_VALUE), false);
+        for (Slot slot : candidates) {
+            if (slot.endTime.isAfter(startTime)) {
+                entries.add(slot.toEntry());
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns every pair of overlapping interview rounds in the timeline.
+     * <p>
+     * The rounds are swept in chronological order while keeping the rounds that are still ongoing,
+     * so each round is only compared against the rounds it actually overlaps.
+     *
+     * @return List of clashes, ordered by the start of the later round of each pair.
+     */
+    public List<InterviewClash> getClashes() {
+        List<InterviewClash> clashes = new ArrayList<>();
+        TreeSet<Slot> ongoingSlots = new TreeSet<>(END_TIME_ORDER);
+        LocalDate currentDate = null;
+        for (Slot slot : slots) {
+            if (!slot.date.equals(currentDate)) {
+                ongoingSlots.clear();
+                currentDate = slot.date;
+            }
+            while (!ongoingSlots.isEmpty() && !ongoingSlots.first().endTime.isAfter(slot.startTime)) {
+                ongoingSlots.pollFirst();
+            }
+            for (Slot ongoingSlot : ongoingSlots) {
+                clashes.add(new InterviewClash(ongoingSlot.toEntry(), slot.toEntry()));
+            }
+            ongoingSlots.add(slot);
+        }
+        return clashes;
+    }
+
+    /**
+     * Returns the windows of at least the given length, within the given hours of each date in a range,
+     * during which no interview round takes place.
+     * <p>
+     * The rounds of each date are already sorted by start time, so they are merged in a single pass,
+     * and only the rounds on the dates in the range are visited.
+     *
+     * @param from First date of the range, inclusive.
+     * @param to Last date of the range, inclusive.
+     * @param dayStart Time at which each date's hours begin.
+     * @param dayEnd Time at which each date's hours end.
+     * @param minimumLength Minimum length of a free window.
+     * @return List of free windows in chronological order.
+     */
+    public List<FreeTimeSlot> getFreeTimeSlots(LocalDate from, LocalDate to, LocalTime dayStart, LocalTime dayEnd,
+                                               Duration minimumLength) {
+        List<FreeTimeSlot> freeTimeSlots = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            NavigableSet<Slot> roundsOnDate = slots.subSet(
+                    Slot.boundary(date, LocalTime.MIN, Integer.MIN_VALUE), true,
+                    Slot.boundary(date, LocalTime.MAX, Integer.MAX_VALUE), true);
+            LocalTime freeFrom = dayStart;
+            for (Slot slot : roundsOnDate) {
+                if (!slot.startTime.isBefore(dayEnd)) {
+                    break;
+                }
+                if (slot.startTime.isAfter(freeFrom)) {
+                    addFreeTimeSlot(freeTimeSlots, date, freeFrom, slot.startTime, minimumLength);
+                }
+                if (slot.endTime.isAfter(freeFrom)) {
+                    freeFrom = slot.endTime;
+                }
+            }
+            if (freeFrom.isBefore(dayEnd)) {
+                addFreeTimeSlot(freeTimeSlots, date, freeFrom, dayEnd, minimumLength);
+            }
+        }
+        return freeTimeSlots;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Adds the window to the list of free windows if it is at least the minimum length.
+     */
+    private static void addFreeTimeSlot(List<FreeTimeSlot> freeTimeSlots, LocalDate date, LocalTime startTime,
+                                        LocalTime endTime, Duration minimumLength) {
+        if (Duration.between(startTime, endTime).compareTo(minimumLength) >= 0) {
+            freeTimeSlots.add(new FreeTimeSlot(date, startTime, endTime));
+        }
+    }
+
+    /**
+     * Collects the interview and all of its next rounds, in the order they were added.
+     *
+     * @param interview Interview to collect.
+     * @param rounds List to which the rounds are added.
+     */
+    private static void collectRounds(Interview interview, List<Interview> rounds) {
+        rounds.add(interview);
+        for (Interview nextRound : interview.getNextRounds()) {
+            collectRounds(nextRound, rounds);
+        }
+    }
+
+    /**
+     * Represents one interview round at its position in the timeline.
+     */
+    private static final class Slot {
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final int internshipId;
+        private final int round;
+        private final long sequence;
+        private final Internship internship;
+        private final Interview interview;
+
+        private Slot(LocalDate date, LocalTime startTime, LocalTime endTime, int internshipId, int round,
+                     long sequence, Internship internship, Interview interview) {
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.internshipId = internshipId;
+            this.round = round;
+            this.sequence = sequence;
+            this.internship = internship;
+            this.interview = interview;
+        }
+
+        private Slot(Internship internship, Interview interview, int round, long sequence) {
+            this(interview.getUnformattedInterviewDate(), interview.getUnformattedInterviewStartTime(),
+                    interview.getUnformattedInterviewEndTime(), internship.getInternshipId(), round, sequence,
+                    internship, interview);
+        }
+
+        /**
+         * Creates a slot that sorts before or after every round at the given date and time.
+         */
+        private static Slot boundary(LocalDate date, LocalTime startTime, int extreme) {
+            return new Slot(date, startTime, startTime, extreme, extreme, extreme, null, null);
+        }
+
+        private int getLengthInSeconds() {
+            return endTime.toSecondOfDay() - startTime.toSecondOfDay();
+        }
+
+        private InterviewEntry toEntry() {
+            return new InterviewEntry(internship, interview);
+        }
+    }
+}
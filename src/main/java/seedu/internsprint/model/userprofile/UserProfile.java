@@ -4,11 +4,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.json.JSONObject;
-import de.vandermeer.asciitable.AsciiTable;
 
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.logic.parser.CommandParser;
@@ -16,6 +16,7 @@ import seedu.internsprint.model.userprofile.project.ProjectList;
 import seedu.internsprint.storage.ProfileStorageHandler;
 import seedu.internsprint.storage.StorageManager;
 import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.TableWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
 
@@ -160,7 +161,8 @@ public class UserProfile {
      * @return CV-formatted string to user
      */
     public String toExtendedString() {
-        AsciiTable at = new AsciiTable();
+        StringJoiner table = new StringJoiner("\n", "\n", "");
+        TableWriter at = TableWriter.withEvenWidths(table::add, 2);
         at.addRule();
 
         String name = getName() != null ? getName() : "N/A";
@@ -198,7 +200,8 @@ public class UserProfile {
                 getYearlyGoals().trim() : "N/A");
         at.addRule();
 
-        return "\n" + at.render();
+        at.finish();
+        return table.toString();
 
     }
 
@@ -2,9 +2,11 @@ package seedu.internsprint.model.userprofile.project;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
 
-import de.vandermeer.asciitable.AsciiTable;
 import org.json.JSONObject;
+import seedu.internsprint.util.TableWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -54,7 +56,8 @@ public class GeneralProject extends Project {
      */
     @Override
     public String toDescription() {
-        AsciiTable at = new AsciiTable();
+        StringJoiner table = new StringJoiner("\n", "\n", "");
+        TableWriter at = TableWriter.withEvenWidths(table::add, 2);
         at.addRule();
 
         String name = getProjectName() != null ? getProjectName() : "N/A";
@@ -75,7 +78,8 @@ public class GeneralProject extends Project {
         at.addRow("Department: ", getDepartment() !=null? getDepartment(): "N/A");
         at.addRule();
 
-        return "\n" + at.render();
+        at.finish();
+        return table.toString();
     }
 
     /**
@@ -98,6 +102,21 @@ public class GeneralProject extends Project {
                 && department.equals(generalProject.getDepartment());
     }
 
+    /**
+     * Returns the hash code of the general project, computed from the same fields as {@link #equals(Object)}.
+     *
+     * @return Hash code of the general project.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectName, role, department);
+    }
+
+    @Override
+    public ProjectKey getKey() {
+        return new ProjectKey("general", projectName, role, department);
+    }
+
     /**
      * Returns a JSON object representing the general project.
      *
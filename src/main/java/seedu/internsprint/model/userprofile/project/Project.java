@@ -61,6 +61,22 @@ public abstract class Project {
     @Override
     public abstract boolean equals(Object obj);
 
+    /**
+     * Returns the hash code of the project, consistent with {@link #equals(Object)}.
+     *
+     * @return Hash code of the project.
+     */
+    @Override
+    public abstract int hashCode();
+
+    /**
+     * Returns the key identifying the project when checking for duplicates.
+     * Two projects are equal exactly when their keys are equal.
+     *
+     * @return Key of the project.
+     */
+    public abstract ProjectKey getKey();
+
     /**
      * Converts the project to a JSON object.
      *
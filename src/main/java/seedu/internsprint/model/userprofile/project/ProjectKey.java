@@ -0,0 +1,47 @@
+package seedu.internsprint.model.userprofile.project;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the fields that identify a project when checking for duplicates.
+ * <p>
+ * A key is a snapshot of the fields at the time it is created, and its hash code is computed once,
+ * so it can be kept in a hash set even after the project it was created from is edited. Fields that
+ * are lists must be given as copies, so that editing the project's list does not change the key.
+ */
+public final class ProjectKey {
+    private final String type;
+    private final List<Object> fields;
+    private final int hash;
+
+    public ProjectKey(String type, Object... fields) {
+        this.type = type;
+        this.fields = Arrays.asList(fields);
+        this.hash = Objects.hash(type, this.fields);
+    }
+
+    /**
+     * Returns true if both keys are of the same type of project and have the same fields.
+     *
+     * @param obj Object to compare with.
+     * @return True if the keys are equal, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        ProjectKey other = (ProjectKey) obj;
+        return hash == other.hash && type.equals(other.type) && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
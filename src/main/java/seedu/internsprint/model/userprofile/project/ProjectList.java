@@ -6,14 +6,19 @@ import seedu.internsprint.storage.StorageManager;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_WRITE_FILE;
 
 /**
  * Represents the list of projects.
+ * The list keeps track of whether any project has changed since the projects were last saved, so that
+ * saving a list without changes writes nothing.
  */
 public class ProjectList {
     protected final HashMap<String, ArrayList<Project>> projectMap = new HashMap<>();
+    protected final HashMap<String, HashSet<ProjectKey>> projectKeys = new HashMap<>();
+    protected boolean hasUnsavedProjects = false;
     protected int projectCount = 0;
     private final StorageManager storageManager = StorageManager.getInstance();
 
@@ -21,6 +26,9 @@ public class ProjectList {
         projectMap.put("software", new ArrayList<>());
         projectMap.put("hardware", new ArrayList<>());
         projectMap.put("general", new ArrayList<>());
+        projectKeys.put("software", new HashSet<>());
+        projectKeys.put("hardware", new HashSet<>());
+        projectKeys.put("general", new HashSet<>());
     }
 
     /**
@@ -31,7 +39,9 @@ public class ProjectList {
     public void addProject(Project project) {
         String type = project.getType();
         projectMap.get(type).add(project);
+        projectKeys.get(type).add(project.getKey());
         projectCount++;
+        hasUnsavedProjects = true;
         assert contains(project) : "Project should be in the list";
         assert projectCount > 0 : "At least one project should be in the list";
     }
@@ -43,8 +53,7 @@ public class ProjectList {
      * @return True if the project is in the list, false otherwise.
      */
     public boolean contains(Project project) {
-        String type = project.getType();
-        return projectMap.get(type).contains(project);
+        return projectKeys.get(project.getType()).contains(project.getKey());
     }
 
     /**
@@ -65,4 +74,20 @@ public class ProjectList {
     public int getProjectCount() {
         return projectCount;
     }
+
+    /**
+     * Checks if any project has changed since the projects were last saved.
+     *
+     * @return True if the project data file is out of date, false otherwise.
+     */
+    public boolean hasUnsavedProjects() {
+        return hasUnsavedProjects;
+    }
+
+    /**
+     * Records that the projects have been written to their data file.
+     */
+    public void markProjectsSaved() {
+        hasUnsavedProjects = false;
+    }
 }
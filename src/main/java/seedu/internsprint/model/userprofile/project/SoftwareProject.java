@@ -4,10 +4,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
 
 
-import de.vandermeer.asciitable.AsciiTable;
 import org.json.JSONObject;
+import seedu.internsprint.util.TableWriter;
 
 import static seedu.internsprint.util.InternSprintExceptionMessages.MISSING_REQUIRED_PARAMETERS;
 
@@ -58,7 +60,8 @@ public class SoftwareProject extends Project {
      */
     @Override
     public String toDescription() {
-        AsciiTable at = new AsciiTable();
+        StringJoiner table = new StringJoiner("\n", "\n", "");
+        TableWriter at = TableWriter.withEvenWidths(table::add, 2);
         at.addRule();
 
         String name = getProjectName() != null ? getProjectName() : "N/A";
@@ -81,7 +84,8 @@ public class SoftwareProject extends Project {
                         String.join(", ", getProgrammingLanguages()) : "N/A");
         at.addRule();
 
-        return "\n" + at.render();
+        at.finish();
+        return table.toString();
     }
 
     /**
@@ -102,6 +106,21 @@ public class SoftwareProject extends Project {
                 && programmingLanguages.equals(softwareProject.getProgrammingLanguages());
     }
 
+    /**
+     * Returns the hash code of the software project, computed from the same fields as {@link #equals(Object)}.
+     *
+     * @return Hash code of the software project.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectName, role, programmingLanguages);
+    }
+
+    @Override
+    public ProjectKey getKey() {
+        return new ProjectKey("software", projectName, role, List.copyOf(programmingLanguages));
+    }
+
     /**
      * Converts the software project to a JSON object.
      *
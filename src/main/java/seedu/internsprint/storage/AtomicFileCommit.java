@@ -0,0 +1,138 @@
+package seedu.internsprint.storage;
+
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+
+/**
+ * Replaces one or more data files so that a crash never leaves a file half written.
+ * <p>
+ * The new content of each file is written once, to a temporary file next to it, and forced to disk. Only
+ * when {@link #commit()} is called are the temporary files moved over the files they replace, one atomic
+ * rename each, and the directories holding them forced to disk once. After a crash, each file therefore has
+ * either its old content or its new content. Staging several files before committing them, a group commit,
+ * keeps the window in which some files are new and others are old to a few renames, but does not close it:
+ * the files are renamed in the order they were staged, and a crash between two renames leaves the earlier
+ * files new and the later ones old. Anything that depends on a set of files being replaced together should
+ * stage the file that records it last, as the internship journal does with its checkpoint file.
+ * <p>
+ * A commit that is closed without being committed deletes its temporary files and leaves the data files as
+ * they were.
+ */
+class AtomicFileCommit implements Closeable {
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Logger logger = InternSprintLogger.getLogger();
+
+    private final Map<Path, Path> stagedFiles = new LinkedHashMap<>();
+
+    /**
+     * Writes the new content of a file to its temporary file and forces it to disk.
+     * The file itself is only replaced once the commit is committed.
+     *
+     * @param target File to be replaced.
+     * @param content Writes the new content of the file.
+     * @return Size of the new content in bytes.
+     * @throws IOException If the temporary file cannot be written.
+     */
+    long stage(File target, ContentWriter content) throws IOException {
+        Path targetPath = target.toPath().toAbsolutePath();
+        Path tempPath = targetPath.resolveSibling(targetPath.getFileName() + TEMP_FILE_SUFFIX);
+        Files.createDirectories(targetPath.getParent());
+        stagedFiles.put(targetPath, tempPath);
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // The stream is flushed but not closed, since closing it would close the channel before it is forced.
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            content.writeTo(out);
+            out.flush();
+            channel.force(true);
+            return channel.size();
+        }
+    }
+
+    /**
+     * Moves every staged file over the file it replaces, then forces the directories holding them to disk.
+     *
+     * @throws IOException If a file cannot be replaced.
+     */
+    void commit() throws IOException {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Map.Entry<Path, Path> stagedFile : stagedFiles.entrySet()) {
+            move(stagedFile.getValue(), stagedFile.getKey());
+            directories.add(stagedFile.getKey().getParent());
+        }
+        stagedFiles.clear();
+        for (Path directory : directories) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Deletes the temporary files of anything staged but not committed.
+     */
+    @Override
+    public void close() {
+        for (Path tempPath : stagedFiles.values()) {
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Unable to delete temporary file {0}", tempPath);
+            }
+        }
+        stagedFiles.clear();
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                logger.log(Level.WARNING, "Atomic move not supported, replacing {0} non-atomically", target);
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Unable to replace file {0}", target);
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, target), e);
+        }
+    }
+
+    /**
+     * Forces a directory to disk, so that the renames in it survive a crash.
+     * Some platforms, such as Windows, do not allow a directory to be opened, and persist renames anyway.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.log(Level.FINE, "Unable to force directory {0} to disk", directory);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
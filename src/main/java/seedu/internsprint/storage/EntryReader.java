@@ -0,0 +1,68 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads the entries of a data file one at a time, whichever {@link StorageFormat} the file is saved in.
+ */
+interface EntryReader extends Closeable {
+
+    /**
+     * Opens a data file with the reader for the format given in its header.
+     *
+     * @param file Data file to be read.
+     * @return Reader for the entries of the file.
+     * @throws IOException If the file cannot be opened.
+     * @throws JSONException If the file is a JSON file that does not start with a JSON array.
+     */
+    static EntryReader open(File file) throws IOException {
+        if (StorageFormat.of(file) == StorageFormat.SNAPSHOT) {
+            return new SnapshotReader(file);
+        }
+        return new JsonArrayStreamReader(file);
+    }
+
+    /**
+     * Returns the entry as a JSON object.
+     *
+     * @param entry Entry read from the file.
+     * @return The entry as a JSON object.
+     * @throws JSONException If the entry is not a JSON object.
+     */
+    static JSONObject asJsonObject(Object entry) {
+        if (entry instanceof SnapshotReader.CorruptedRecord) {
+            throw new JSONException(entry.toString());
+        }
+        if (!(entry instanceof JSONObject)) {
+            throw new JSONException("JSON entry is not a JSONObject: " + entry);
+        }
+        return (JSONObject) entry;
+    }
+
+    /**
+     * Formats the entry for display when reporting a corrupted entry.
+     *
+     * @param entry Entry read from the file.
+     * @return String representation of the entry.
+     */
+    static String toFaultyEntry(Object entry) {
+        if (entry instanceof JSONObject) {
+            return ((JSONObject) entry).toString(4);
+        }
+        return String.valueOf(entry);
+    }
+
+    /**
+     * Reads the next entry of the file.
+     *
+     * @return The next entry, or null once every entry has been read.
+     * @throws IOException If the file cannot be read.
+     * @throws JSONException If the file is a JSON file that is not valid JSON.
+     */
+    Object next() throws IOException;
+}
@@ -0,0 +1,26 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * Writes the entries of a data file one at a time, in one of the {@link StorageFormat}s.
+ */
+interface EntryWriter {
+
+    /**
+     * Writes the next entry.
+     *
+     * @param entry Entry to be written.
+     * @throws IOException If the entry cannot be written.
+     */
+    void write(JSONObject entry) throws IOException;
+
+    /**
+     * Ends the file after the last entry and flushes it, without closing what it is written to.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    void end() throws IOException;
+}
@@ -0,0 +1,419 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipChange;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.util.InternSprintLogger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static seedu.internsprint.util.InternSprintExceptionMessages.CORRUPTED_JOURNAL_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.FILE_ALREADY_EXISTS;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_DIRECTORY;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_CREATE_FILE;
+import static seedu.internsprint.util.InternSprintExceptionMessages.UNABLE_TO_READ_FILE;
+import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_SUCCESS;
+
+/**
+ * Handles the append-only journal of changes made to the internship list.
+ * <p>
+ * Each change is written as one compact JSON record per line. The journal is replayed on top of the
+ * internship and interview data files when loading, and is truncated whenever those files are rewritten.
+ * <p>
+ * Every rewrite of the data files that empties the journal is a checkpoint. The number of checkpoints made so
+ * far, the generation, is kept in a checkpoint file that is replaced in the same group commit as the data files,
+ * after them, and every record is stamped with the generation it was appended in. Records from before the last
+ * checkpoint are skipped when replaying, so a crash after the data files are replaced but before the journal is
+ * truncated does not apply the same changes twice. Records identify internships by their ID, so that replaying
+ * a record whose change the data files already hold, as happens after a crash between replacing the data files
+ * and replacing the checkpoint file, changes nothing.
+ */
+public class InternshipJournalHandler implements Storage<InternshipList> {
+    public static final String FILE_PATH = Paths.get("data", "internships.journal").toString();
+    public static final String CHECKPOINT_FILE_PATH = Paths.get("data", "internships.checkpoint").toString();
+    private static final Logger logger = InternSprintLogger.getLogger();
+    private final File file;
+    private final File checkpointFile;
+    private Long generation = null;
+    private int recordCount = 0;
+
+    public InternshipJournalHandler() {
+        this(new File(FILE_PATH), new File(CHECKPOINT_FILE_PATH));
+    }
+
+    /**
+     * Creates a handler that uses the given files instead of the usual journal and checkpoint files.
+     *
+     * @param journalFile File to append the journal to.
+     * @param checkpointFile File to keep the generation of the last checkpoint in.
+     */
+    InternshipJournalHandler(File journalFile, File checkpointFile) {
+        this.file = journalFile;
+        this.checkpointFile = checkpointFile;
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Creates the file if it does not exist.
+     */
+    @Override
+    public void createFile() {
+        try {
+            if (file.getParentFile() != null && !file.getParentFile().exists()) {
+                if (!file.getParentFile().mkdirs()) {
+                    throw new RuntimeException(String.format(UNABLE_TO_CREATE_DIRECTORY,
+                            file.getParentFile().getAbsolutePath()));
+                }
+                assert file.getParentFile().exists() : "Directory should exist at this point";
+            }
+            if (!file.exists()) {
+                if (!file.createNewFile()) {
+                    throw new RuntimeException(String.format(FILE_ALREADY_EXISTS,
+                            file.getAbsolutePath()));
+                }
+                assert file.exists() : "File should exist at this point";
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Unable to create file {0}", file.getAbsolutePath());
+            throw new RuntimeException(String.format(UNABLE_TO_CREATE_FILE,
+                    file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Appends the pending changes of the internship list to the journal, and forces them to the disk before
+     * returning, so that a change is not lost to a crash once its command has been reported as done.
+     *
+     * @param internships List of internships whose pending changes are to be saved.
+     */
+    @Override
+    public void save(InternshipList internships) throws IOException {
+        List<InternshipChange> changes = internships.getPendingChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (!file.exists()) {
+            createFile();
+        }
+        assert file.exists() : "File should exist at this point";
+
+        long recordGeneration = getGeneration();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+                BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, Charset.defaultCharset()))) {
+            for (InternshipChange change : changes) {
+                writer.write(toRecord(change, recordGeneration).toString());
+                writer.newLine();
+            }
+            writer.flush();
+            channel.force(false);
+            recordCount += changes.size();
+            logger.log(Level.INFO, () -> String.format("Appended %s records to journal %s",
+                    changes.size(), file.getAbsolutePath()));
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error appending to internship journal");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Replays the journal on top of the internships already loaded from the data files.
+     * <p>
+     * A final record that was only partially written is ignored, since it belongs to a save that
+     * did not complete. Records from before the last checkpoint are skipped, since the data files already
+     * hold their changes.
+     *
+     * @param internships List of internships to replay the journal onto.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    @Override
+    public CommandResult load(InternshipList internships) {
+        CommandResult result;
+        if (!file.exists() || file.length() == 0) {
+            result = new CommandResult(LOADING_DATA_SUCCESS);
+            result.setSuccessful(true);
+            return result;
+        }
+        logger.log(Level.INFO, "Replaying internship journal ...");
+
+        long loadedGeneration;
+        try {
+            loadedGeneration = getGeneration();
+        } catch (IOException e) {
+            return errorReadingFile(checkpointFile);
+        }
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading journal file");
+            return errorReadingFile(file);
+        }
+
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        int skippedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            JSONObject record;
+            try {
+                record = new JSONObject(lines.get(i));
+            } catch (JSONException e) {
+                if (i == lines.size() - 1) {
+                    logger.log(Level.WARNING, "Ignoring incomplete last journal record");
+                    break;
+                }
+                hasCorruption = true;
+                feedback.add("Error at journal entry line: " + (i + 1));
+                feedback.add("Faulty entry: " + lines.get(i));
+                continue;
+            }
+            recordCount++;
+            if (record.optLong("generation", 0) < loadedGeneration) {
+                skippedCount++;
+                continue;
+            }
+            try {
+                applyRecord(internships, record);
+            } catch (RuntimeException | DuplicateEntryException e) {
+                logger.log(Level.WARNING, "Skipping corrupted journal entry: " + e.getMessage());
+                hasCorruption = true;
+                feedback.add("Error at journal entry line: " + (i + 1));
+                feedback.add("Faulty entry: " + lines.get(i));
+            }
+        }
+
+        if (hasCorruption) {
+            feedback.add(0, CORRUPTED_JOURNAL_FILE);
+            feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
+            result = new CommandResult(feedback);
+            result.setSuccessful(false);
+            return result;
+        }
+
+        int replayedCount = recordCount - skippedCount;
+        logger.log(Level.INFO, () -> String.format("Replayed %s journal records, skipped %s from before the last "
+                + "checkpoint", replayedCount, recordCount - replayedCount));
+        result = new CommandResult(LOADING_DATA_SUCCESS);
+        result.setSuccessful(true);
+        return result;
+    }
+
+    /**
+     * Checks if the journal holds any records, which a checkpoint has to mark as written to the data files.
+     *
+     * @return True if the journal is not empty.
+     */
+    public boolean hasRecords() {
+        return file.length() > 0;
+    }
+
+    /**
+     * Writes the generation of a new checkpoint to a temporary checkpoint file, which replaces the checkpoint
+     * file once the commit is committed. It should be staged after the data files of the checkpoint, so that it
+     * is replaced after them.
+     *
+     * @param commit Commit that the data files of the checkpoint are replaced in.
+     * @return Size of the checkpoint file in bytes.
+     */
+    long stageCheckpoint(AtomicFileCommit commit) throws IOException {
+        long nextGeneration = getGeneration() + 1;
+        return commit.stage(checkpointFile, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(nextGeneration + System.lineSeparator());
+            writer.flush();
+        });
+    }
+
+    /**
+     * Empties the journal once a checkpoint staged with {@link #stageCheckpoint} has been committed, and forces
+     * the emptied journal to disk.
+     */
+    public void completeCheckpoint() throws IOException {
+        generation = getGeneration() + 1;
+        recordCount = 0;
+        if (!file.exists() || file.length() == 0) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.force(true);
+            logger.log(Level.INFO, () -> "Truncated internship journal " + file.getAbsolutePath());
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error truncating internship journal");
+            throw new IOException(String.format(UNABLE_TO_CREATE_FILE, file.getAbsolutePath()));
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns a CommandResult object indicating that there was an error reading the file.
+     *
+     * @param unreadableFile File that could not be read.
+     * @return CommandResult object indicating the error.
+     */
+    private static CommandResult errorReadingFile(File unreadableFile) {
+        List<String> feedback = new ArrayList<>();
+        feedback.add(String.format(UNABLE_TO_READ_FILE, unreadableFile.getAbsolutePath()));
+        CommandResult result = new CommandResult(feedback);
+        result.setSuccessful(false);
+        return result;
+    }
+
+    /**
+     * Returns the generation of the last checkpoint, reading it from the checkpoint file the first time.
+     * Before the first checkpoint, there is no checkpoint file and the generation is 0.
+     *
+     * @return Number of checkpoints made so far.
+     * @throws IOException If the checkpoint file cannot be read or does not hold a generation.
+     */
+    private long getGeneration() throws IOException {
+        if (generation == null) {
+            if (!checkpointFile.exists()) {
+                generation = 0L;
+            } else {
+                try {
+                    generation = Long.parseLong(Files.readString(checkpointFile.toPath()).trim());
+                } catch (IOException | NumberFormatException e) {
+                    logger.log(Level.SEVERE, "Error reading checkpoint file");
+                    throw new IOException(String.format(UNABLE_TO_READ_FILE, checkpointFile.getAbsolutePath()));
+                }
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Converts a change into its journal record.
+     *
+     * @param change Change to be converted.
+     * @param recordGeneration Generation of the last checkpoint, which the change is made on top of.
+     * @return JSON object representing the change.
+     */
+    private static JSONObject toRecord(InternshipChange change, long recordGeneration) {
+        JSONObject record = new JSONObject();
+        record.put("op", change.isDeletion() ? "delete" : "put");
+        record.put("generation", recordGeneration);
+        record.put("type", change.getType());
+        record.put("index", change.getIndex());
+        if (change.isDeletion()) {
+            record.put("id", change.getInternship().getInternshipId());
+        } else {
+            Internship internship = change.getInternship();
+            record.put("internship", internship.toJson());
+            if (internship.getInterview() != null) {
+                record.put("interview", internship.getInterview().toJson());
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Applies a journal record to the internship list.
+     * <p>
+     * A record puts or deletes the internship with its ID, wherever it is in the list, so applying a record
+     * whose change the list already holds changes nothing. Deletions journalled before records held an ID
+     * delete the internship at the position in the record.
+     *
+     * @param internships List of internships.
+     * @param record JSON object representing the change.
+     * @throws DuplicateEntryException If the record adds an internship that already exists.
+     */
+    private static void applyRecord(InternshipList internships, JSONObject record) throws DuplicateEntryException {
+        String type = record.getString("type");
+        ArrayList<Internship> internshipsOfType = internships.getInternshipMap().get(type);
+        if (internshipsOfType == null) {
+            throw new IllegalArgumentException("Journal record has an invalid internship type");
+        }
+
+        String operation = record.getString("op");
+        if (operation.equals("delete")) {
+            int index = record.has("id")
+                    ? findIndex(internships, type, record.getInt("id"))
+                    : record.getInt("index");
+            if (index >= internshipsOfType.size()) {
+                throw new IllegalArgumentException("Journal record refers to a position that does not exist");
+            }
+            if (index >= 0) {
+                internships.deleteInternship(type, index);
+            }
+            return;
+        }
+        if (!operation.equals("put")) {
+            throw new IllegalArgumentException("Unknown journal operation: " + operation);
+        }
+
+        Internship internship = InternshipStorageHandler.createInternship(record.getJSONObject("internship"));
+        if (internship == null || !internship.getType().equals(type)) {
+            throw new IllegalArgumentException("Journal record has an invalid internship type");
+        }
+        int index = findIndex(internships, type, internship.getInternshipId());
+        if (index < 0) {
+            internships.addInternship(internship);
+        } else {
+            internships.replaceInternship(type, index, internship);
+        }
+        if (record.has("interview")) {
+            Interview interview = Interview.fromJson(record.getJSONObject("interview"));
+            interview.setInternshipId(internship.getInternshipId());
+            internships.addInterview(interview);
+        }
+    }
+
+    /**
+     * Finds the position of the internship with the given ID within the list of its type.
+     *
+     * @param internships List of internships.
+     * @param type Type that the internship should have.
+     * @param internshipId ID of the internship.
+     * @return Index of the internship within the list of its type, or -1 if no internship has the ID.
+     */
+    private static int findIndex(InternshipList internships, String type, int internshipId) {
+        Internship internship = internships.getInternshipById(internshipId);
+        if (internship == null) {
+            return -1;
+        }
+        if (!internship.getType().equals(type)) {
+            throw new IllegalArgumentException("Journal record refers to an internship of another type");
+        }
+        ArrayList<Internship> internshipsOfType = internships.getInternshipMap().get(type);
+        for (int i = 0; i < internshipsOfType.size(); i++) {
+            if (internshipsOfType.get(i) == internship) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
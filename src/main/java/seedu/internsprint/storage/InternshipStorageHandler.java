@@ -5,17 +5,14 @@ import seedu.internsprint.exceptions.DuplicateEntryException;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.GeneralInternship;
 import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.Internship;
 import seedu.internsprint.model.internship.SoftwareInternship;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.util.InternSprintLogger;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -39,13 +36,26 @@ import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TI
  */
 public class InternshipStorageHandler implements Storage<InternshipList> {
     public static final String FILE_PATH = Paths.get("data", "internships.txt").toString();
-    private static File file;
     private static final Logger logger = InternSprintLogger.getLogger();
+    private final File file;
 
     public InternshipStorageHandler() {
         file = new File(FILE_PATH);
     }
 
+    /**
+     * Creates a handler that saves to and loads from the given file instead of the usual data file.
+     *
+     * @param dataFile File to save the internships to and load them from.
+     */
+    InternshipStorageHandler(File dataFile) {
+        file = dataFile;
+    }
+
+    File getFile() {
+        return file;
+    }
+
     /**
      * Creates the file if it does not exist.
      */
@@ -73,32 +83,45 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
     }
 
     /**
-     * Saves the internships to the file.
+     * Saves the internships to the file, replacing it atomically.
      *
      * @param internships List of internships to be saved.
      */
     public void save(InternshipList internships) throws IOException {
-        logger.log(Level.INFO, "Saving Internships to file ...");
-        JSONArray jsonArray = new JSONArray();
-        internships.getInternshipMap().forEach((type, list) -> {
-            list.forEach(internship -> jsonArray.put(internship.toJson()));
-        });
-
-        if (!file.exists()) {
-            createFile();
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            save(internships, StorageFormat.JSON, commit);
+            commit.commit();
         }
-        assert file.exists() : "File should exist at this point";
+    }
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
-            logger.log(Level.INFO, String.format("Successfully saved %s Internships to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+    /**
+     * Writes the internships to a temporary file, which replaces the file once the commit is committed.
+     *
+     * @param internships List of internships to be saved.
+     * @param format Format to save the file in.
+     * @param commit Commit that the file is replaced in.
+     * @return Size of the saved internships in bytes.
+     */
+    long save(InternshipList internships, StorageFormat format, AtomicFileCommit commit) throws IOException {
+        logger.log(Level.INFO, "Saving Internships to file ...");
+        try {
+            long size = commit.stage(file, out -> {
+                EntryWriter entryWriter = format.newWriter(out);
+                for (List<Internship> list : internships.getInternshipMap().values()) {
+                    for (Internship internship : list) {
+                        entryWriter.write(internship.toJson());
+                    }
+                }
+                entryWriter.end();
+            });
+            logger.log(Level.INFO, () -> String.format("Successfully saved %s Internships to file %s",
+                    internships.getInternshipCount(), file.getAbsolutePath()));
+            return size;
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error saving internships to file");
             throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
                     file.getAbsolutePath()));
         }
-
     }
 
     /**
@@ -116,23 +139,28 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        int entryIndex = 0;
+        try (EntryReader reader = EntryReader.open(file)) {
+            Object entry;
+            while ((entry = reader.next()) != null) {
+                entryIndex++;
+                try {
+                    addInternshipToList(internships, EntryReader.asJsonObject(entry));
+                } catch (JSONException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + EntryReader.toFaultyEntry(entry));
+                }
             }
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error reading file");
             return errorReadingFile();
-        }
-
-        JSONArray jsonArray;
-        try {
-            jsonArray = new JSONArray(jsonData.toString());
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
+            feedback.clear();
             feedback.add(CORRUPTED_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
             feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
@@ -140,25 +168,7 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
             result.setSuccessful(false);
             return result;
         }
-        if (jsonArray.isEmpty() && jsonData.length() != 2) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be created successfully");
-            result = errorReadingFile();
-            return result;
-        }
-
-        List<String> feedback = new ArrayList<>();
-        boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject internshipJson = jsonArray.getJSONObject(i);
-            try {
-                addInternshipToList(internships, internshipJson);
-            } catch (JSONException e) {
-                logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
-                hasCorruption = true;
-                feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + internshipJson.toString(4));
-            }
-        }
+        logger.log(Level.INFO, String.format("Read %s internships from file", entryIndex));
 
         if (hasCorruption) {
             feedback.add(0, CORRUPTED_FILE);
@@ -179,7 +189,7 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
      *
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private CommandResult errorReadingFile() {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -195,24 +205,35 @@ public class InternshipStorageHandler implements Storage<InternshipList> {
      * @param internshipJson JSON object representing the internship.
      */
     private static void addInternshipToList(InternshipList internships, JSONObject internshipJson) {
+        Internship internship = createInternship(internshipJson);
+        if (internship == null) {
+            return;
+        }
         try {
-            switch (internshipJson.getString("type")) {
-            case "general":
-                internships.addInternship(GeneralInternship.fromJson(internshipJson));
-                break;
-            case "software":
-                internships.addInternship(SoftwareInternship.fromJson(internshipJson));
-                break;
-            case "hardware":
-                internships.addInternship(HardwareInternship.fromJson(internshipJson));
-                break;
-            default:
-                break;
-            }
+            internships.addInternship(internship);
         } catch (DuplicateEntryException e) {
             throw new RuntimeException(e.getMessage() + "\n" + "Please check the file for duplicate entries");
         }
     }
+
+    /**
+     * Creates the internship of the type specified in the JSON object.
+     *
+     * @param internshipJson JSON object representing the internship.
+     * @return Internship object, or null if the type is not recognised.
+     */
+    static Internship createInternship(JSONObject internshipJson) {
+        switch (internshipJson.getString("type")) {
+        case "general":
+            return GeneralInternship.fromJson(internshipJson);
+        case "software":
+            return SoftwareInternship.fromJson(internshipJson);
+        case "hardware":
+            return HardwareInternship.fromJson(internshipJson);
+        default:
+            return null;
+        }
+    }
 }
 
 
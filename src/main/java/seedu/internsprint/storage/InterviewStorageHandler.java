@@ -6,17 +6,12 @@ import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.internship.interview.Interview;
 import seedu.internsprint.util.InternSprintLogger;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -33,13 +28,26 @@ import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TI
 public class InterviewStorageHandler implements Storage<InternshipList> {
 
     public static final String FILE_PATH = Paths.get("data", "interviews.txt").toString();
-    private static File file;
     private static final Logger logger = InternSprintLogger.getLogger();
+    private final File file;
 
     public InterviewStorageHandler() {
         file = new File(FILE_PATH);
     }
 
+    /**
+     * Creates a handler that saves to and loads from the given file instead of the usual data file.
+     *
+     * @param dataFile File to save the interviews to and load them from.
+     */
+    InterviewStorageHandler(File dataFile) {
+        file = dataFile;
+    }
+
+    File getFile() {
+        return file;
+    }
+
     /**
      * Creates the file if it does not exist.
      */
@@ -68,31 +76,45 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
     }
 
     /**
-     * Saves the interviews to the file.
+     * Saves the interviews to the file, replacing it atomically.
      *
      * @param internships List of internships to be saved.
      */
     @Override
     public void save(InternshipList internships) throws IOException {
-        logger.log(Level.INFO, "Saving Interviews to file ...");
-        JSONArray jsonArray = new JSONArray();
-        internships.getInterviewList().forEach(interview -> jsonArray.put(interview.toJson()));
-
-        if (!file.exists()) {
-            createFile();
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            save(internships, StorageFormat.JSON, commit);
+            commit.commit();
         }
-        assert file.exists() : "File should exist at this point";
+    }
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
-            logger.log(Level.INFO, String.format("Successfully saved %s Interviews to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+    /**
+     * Writes the interviews to a temporary file, which replaces the file once the commit is committed.
+     *
+     * @param internships List of internships whose interviews are to be saved.
+     * @param format Format to save the file in.
+     * @param commit Commit that the file is replaced in.
+     * @return Size of the saved interviews in bytes.
+     */
+    long save(InternshipList internships, StorageFormat format, AtomicFileCommit commit) throws IOException {
+        logger.log(Level.INFO, "Saving Interviews to file ...");
+        List<Interview> interviews = internships.getInterviewList();
+        try {
+            long size = commit.stage(file, out -> {
+                EntryWriter entryWriter = format.newWriter(out);
+                for (Interview interview : interviews) {
+                    entryWriter.write(interview.toJson());
+                }
+                entryWriter.end();
+            });
+            logger.log(Level.INFO, () -> String.format("Successfully saved %s Interviews to file %s",
+                    interviews.size(), file.getAbsolutePath()));
+            return size;
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error writing to file");
             throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
                     file.getAbsolutePath()));
         }
-
     }
 
     /**
@@ -103,6 +125,21 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
      */
     @Override
     public CommandResult load(InternshipList internships) {
+        return load(internships, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Loads the interviews from the file while the internships may still be loading.
+     * <p>
+     * Every interview is read and parsed first, and is only added to its internship once the internships
+     * have loaded, so that the file can be parsed at the same time as the internships are loaded.
+     * Corrupted entries are reported in the order they appear in the file.
+     *
+     * @param internships List of internships that the interviews belong to.
+     * @param internshipsLoaded Completes once every internship has been added to the list.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    public CommandResult load(InternshipList internships, CompletableFuture<?> internshipsLoaded) {
         logger.log(Level.INFO, "Beginning process to load interviews from file ...");
         CommandResult result;
         if (!file.exists() || file.length() == 0) {
@@ -111,23 +148,18 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+        List<String> feedback = new ArrayList<>();
+        List<ParsedEntry> parsedEntries = new ArrayList<>();
+        try (EntryReader reader = EntryReader.open(file)) {
+            Object entry;
+            while ((entry = reader.next()) != null) {
+                parsedEntries.add(parseEntry(entry));
             }
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error reading file");
-            return  errorReadingFile();
-        }
-
-        JSONArray jsonArray;
-        try {
-            jsonArray = new JSONArray(jsonData.toString());
+            return errorReadingFile();
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
             feedback.add(CORRUPTED_INTERVIEW_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
             feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
@@ -135,27 +167,22 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
             result.setSuccessful(false);
             return result;
         }
-        if (jsonArray.isEmpty() && jsonData.length() != 2) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be" +
-                    " created successfully");
-            result = errorReadingFile();
-            return result;
-        }
-        assert !(jsonArray.isEmpty() && jsonData.length() != 2) :
-                "Array of JSON objects read from file should not be empty at this point";
-        logger.log(Level.INFO, "Successfully extracted interviews as JSON objects from file");
+        logger.log(Level.INFO, String.format("Read %s interviews from file", parsedEntries.size()));
 
-        List<String> feedback = new ArrayList<>();
+        internshipsLoaded.join();
         boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject interviewJson = jsonArray.getJSONObject(i);
+        for (int i = 0; i < parsedEntries.size(); i++) {
+            ParsedEntry parsedEntry = parsedEntries.get(i);
             try {
-                addInterviewToList(internships, interviewJson);
+                if (parsedEntry.error != null) {
+                    throw parsedEntry.error;
+                }
+                internships.addInterview(parsedEntry.interview);
             } catch (RuntimeException e) {
                 logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
                 hasCorruption = true;
                 feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + interviewJson.toString(4));
+                feedback.add("Faulty entry: " + EntryReader.toFaultyEntry(parsedEntry.entry));
             }
         }
 
@@ -174,14 +201,14 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
     }
 
     /**
-     * Adds the interview to the list of interviews.
-     *
-     * @param internships List of internships.
-     * @param interviewJson JSON object representing the interview.
+     * Parses an entry of the file into an interview, keeping the error instead if it cannot be parsed.
      */
-    private static void addInterviewToList(InternshipList internships, JSONObject interviewJson) {
-        Interview interview = Interview.fromJson(interviewJson);
-        internships.addInterview(interview);
+    private static ParsedEntry parseEntry(Object entry) {
+        try {
+            return new ParsedEntry(entry, Interview.fromJson(EntryReader.asJsonObject(entry)), null);
+        } catch (RuntimeException e) {
+            return new ParsedEntry(entry, null, e);
+        }
     }
 
     /**
@@ -189,7 +216,7 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
      *
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private CommandResult errorReadingFile() {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -197,4 +224,19 @@ public class InterviewStorageHandler implements Storage<InternshipList> {
         result.setSuccessful(false);
         return result;
     }
+
+    /**
+     * An entry of the file, with the interview parsed from it or the error met while parsing it.
+     */
+    private static final class ParsedEntry {
+        private final Object entry;
+        private final Interview interview;
+        private final RuntimeException error;
+
+        private ParsedEntry(Object entry, Interview interview, RuntimeException error) {
+            this.entry = entry;
+            this.interview = interview;
+            this.error = error;
+        }
+    }
 }
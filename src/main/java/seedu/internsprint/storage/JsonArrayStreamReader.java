@@ -0,0 +1,90 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the elements of a JSON array stored in a file one at a time.
+ * <p>
+ * Only the element currently being read is held in memory, so each entry can be turned into a model
+ * object as soon as it has been parsed instead of after the whole file has been read.
+ */
+class JsonArrayStreamReader implements EntryReader {
+    private final Reader reader;
+    private final JSONTokener tokener;
+    private boolean isFirstElement = true;
+    private boolean isFinished = false;
+
+    /**
+     * Opens the file and reads up to the start of the JSON array.
+     *
+     * @param file File containing a JSON array.
+     * @throws IOException If the file cannot be opened.
+     * @throws JSONException If the file does not start with a JSON array.
+     */
+    JsonArrayStreamReader(File file) throws IOException {
+        reader = new BufferedReader(new FileReader(file));
+        tokener = new JSONTokener(reader);
+        if (tokener.nextClean() != '[') {
+            reader.close();
+            throw tokener.syntaxError("A JSONArray text must start with '['");
+        }
+    }
+
+    /**
+     * Reads the next element of the array.
+     *
+     * @return The next element, or null once the end of the array has been reached.
+     * @throws JSONException If the array is not valid JSON.
+     */
+    @Override
+    public Object next() {
+        if (isFinished) {
+            return null;
+        }
+        char c = tokener.nextClean();
+        if (!isFirstElement) {
+            if (c == ']') {
+                return finish();
+            }
+            if (c != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+            c = tokener.nextClean();
+        }
+        if (c == ']' && isFirstElement) {
+            return finish();
+        }
+        if (c == 0) {
+            throw tokener.syntaxError("Expected a ',' or ']'");
+        }
+        isFirstElement = false;
+        tokener.back();
+        return tokener.nextValue();
+    }
+
+    /**
+     * Marks the end of the array and checks that nothing but whitespace follows it.
+     *
+     * @return Null, to indicate that there are no more elements.
+     * @throws JSONException If there is content after the end of the array.
+     */
+    private Object finish() {
+        isFinished = true;
+        if (tokener.nextClean() != 0) {
+            throw tokener.syntaxError("Unexpected content after the end of the JSONArray");
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes the elements of a JSON array to a file one at a time.
+ * <p>
+ * Each element is written as soon as it is given, so only one element is held in memory no matter how
+ * long the array is. The array is laid out the same way as {@code JSONArray.toString(4)}, and can be read
+ * back with {@link JsonArrayStreamReader}.
+ */
+class JsonArrayStreamWriter implements EntryWriter, Closeable {
+    private static final int INDENT_FACTOR = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+    private boolean isFirstElement = true;
+    private boolean isEnded = false;
+
+    /**
+     * Creates or replaces the file and starts the JSON array.
+     *
+     * @param file File to write the JSON array to.
+     * @throws IOException If the file cannot be opened.
+     */
+    JsonArrayStreamWriter(File file) throws IOException {
+        this(new BufferedWriter(new FileWriter(file), BUFFER_SIZE));
+    }
+
+    /**
+     * Starts the JSON array in the given writer.
+     *
+     * @param writer Writer to write the JSON array to.
+     * @throws IOException If the writer cannot be written to.
+     */
+    JsonArrayStreamWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write('[');
+    }
+
+    /**
+     * Writes the next element of the array.
+     *
+     * @param element JSON object to be written.
+     * @throws IOException If the file cannot be written to.
+     */
+    @Override
+    public void write(JSONObject element) throws IOException {
+        if (!isFirstElement) {
+            writer.write(',');
+        }
+        isFirstElement = false;
+        writer.write('\n');
+        writer.write(" ".repeat(INDENT_FACTOR));
+        element.write(writer, INDENT_FACTOR, INDENT_FACTOR);
+    }
+
+    /**
+     * Ends the JSON array and flushes the writer without closing it.
+     *
+     * @throws IOException If the writer cannot be written to.
+     */
+    @Override
+    public void end() throws IOException {
+        if (isEnded) {
+            return;
+        }
+        isEnded = true;
+        if (!isFirstElement) {
+            writer.write('\n');
+        }
+        writer.write(']');
+        writer.flush();
+    }
+
+    /**
+     * Ends the JSON array and closes the file.
+     *
+     * @throws IOException If the file cannot be written to.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            end();
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -6,8 +6,8 @@ import seedu.internsprint.model.userprofile.UserProfile;
 import java.io.File;
 import java.io.FileReader;
 import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,13 +27,27 @@ import static seedu.internsprint.util.InternSprintMessages.SAVING_PROFILE_SUCCES
  */
 public class ProfileStorageHandler implements Storage<UserProfile> {
     public static final String FILE_PATH = Paths.get("data", "user.txt").toString();
-    private static final File userProfileFile = new File(FILE_PATH);
     private static final Logger logger = Logger.getLogger(ProfileStorageHandler.class.getName());
+    private final File userProfileFile;
 
     public ProfileStorageHandler() {
+        this(new File(FILE_PATH));
+    }
+
+    /**
+     * Creates a handler that saves to and loads from the given file instead of the usual data file.
+     *
+     * @param dataFile File to save the user profile to and load it from.
+     */
+    ProfileStorageHandler(File dataFile) {
+        userProfileFile = dataFile;
         createFile();
     }
 
+    File getFile() {
+        return userProfileFile;
+    }
+
     /**
      * Creates the file if it does not exist.
      */
@@ -53,20 +67,36 @@ public class ProfileStorageHandler implements Storage<UserProfile> {
     }
 
     /**
-     * Saves the user profile to the file.
+     * Saves the user profile to the file, replacing it atomically.
      *
      * @param userProfile The user profile to be saved.
      */
     @Override
     public void save(UserProfile userProfile) throws IOException {
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            save(userProfile, commit);
+            commit.commit();
+        }
+    }
+
+    /**
+     * Writes the user profile to a temporary file, which replaces the file once the commit is committed.
+     *
+     * @param userProfile The user profile to be saved.
+     * @param commit Commit that the file is replaced in.
+     * @return Size of the saved user profile in bytes.
+     */
+    long save(UserProfile userProfile, AtomicFileCommit commit) throws IOException {
         logger.log(Level.INFO, "Saving user profile to file...");
         if (userProfile == null) {
-            return;
+            return 0;
         }
 
-        try (FileWriter fileWriter = new FileWriter(userProfileFile)) {
-            fileWriter.write(userProfile.toFormattedString());
-            logger.log(Level.INFO, String.format(SAVING_PROFILE_SUCCESS, userProfileFile.getAbsolutePath()));
+        try {
+            long size = commit.stage(userProfileFile,
+                    out -> out.write(userProfile.toFormattedString().getBytes(Charset.defaultCharset())));
+            logger.log(Level.INFO, () -> String.format(SAVING_PROFILE_SUCCESS, userProfileFile.getAbsolutePath()));
+            return size;
         } catch (IOException e) {
             logger.log(Level.SEVERE, String.format(UNABLE_TO_SAVE_PROFILE, userProfileFile.getAbsolutePath()), e);
             throw new IOException(String.format(UNABLE_TO_SAVE_PROFILE, userProfileFile.getAbsolutePath()), e);
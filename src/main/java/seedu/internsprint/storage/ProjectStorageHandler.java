@@ -4,17 +4,14 @@ import org.json.JSONException;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.userprofile.project.GeneralProject;
 import seedu.internsprint.model.userprofile.project.HardwareProject;
+import seedu.internsprint.model.userprofile.project.Project;
 import seedu.internsprint.model.userprofile.project.SoftwareProject;
 import seedu.internsprint.model.userprofile.project.ProjectList;
 import seedu.internsprint.util.InternSprintLogger;
 
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
-import java.io.FileReader;
-import java.io.BufferedReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -36,13 +33,26 @@ import static seedu.internsprint.util.InternSprintMessages.LOADING_DATA_FIRST_TI
  */
 public class ProjectStorageHandler implements Storage<ProjectList> {
     public static final String FILE_PATH = Paths.get("data", "projects.txt").toString();
-    private static File file;
     private static final Logger logger = InternSprintLogger.getLogger();
+    private final File file;
 
     public ProjectStorageHandler() {
         file = new File(FILE_PATH);
     }
 
+    /**
+     * Creates a handler that saves to and loads from the given file instead of the usual data file.
+     *
+     * @param dataFile File to save the projects to and load them from.
+     */
+    ProjectStorageHandler(File dataFile) {
+        file = dataFile;
+    }
+
+    File getFile() {
+        return file;
+    }
+
     /**
      * Creates the file if it does not exist.
      */
@@ -70,27 +80,40 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
     }
 
     /**
-     * Saves the projects to the file.
+     * Saves the projects to the file, replacing it atomically.
      *
      * @param projects List of projects to be saved.
      */
     public void save(ProjectList projects) throws IOException {
-        logger.log(Level.INFO, "Saving Projects to file ...");
-
-        JSONArray jsonArray = new JSONArray();
-        projects.getProjectMap().forEach((type, list) -> {
-            list.forEach(project -> jsonArray.put(project.toJson()));
-        });
-
-        if (!file.exists()) {
-            createFile();
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            save(projects, StorageFormat.JSON, commit);
+            commit.commit();
         }
-        assert file.exists() : "File should exist at this point";
+    }
 
-        try (FileWriter fileWriter = new FileWriter(file)) {
-            fileWriter.write(jsonArray.toString(4));
-            logger.log(Level.INFO, String.format("Successfully saved %s Projects to file %s",
-                    jsonArray.length(), file.getAbsolutePath()));
+    /**
+     * Writes the projects to a temporary file, which replaces the file once the commit is committed.
+     *
+     * @param projects List of projects to be saved.
+     * @param format Format to save the file in.
+     * @param commit Commit that the file is replaced in.
+     * @return Size of the saved projects in bytes.
+     */
+    long save(ProjectList projects, StorageFormat format, AtomicFileCommit commit) throws IOException {
+        logger.log(Level.INFO, "Saving Projects to file ...");
+        try {
+            long size = commit.stage(file, out -> {
+                EntryWriter entryWriter = format.newWriter(out);
+                for (List<Project> list : projects.getProjectMap().values()) {
+                    for (Project project : list) {
+                        entryWriter.write(project.toJson());
+                    }
+                }
+                entryWriter.end();
+            });
+            logger.log(Level.INFO, () -> String.format("Successfully saved %s Projects to file %s",
+                    projects.getProjectCount(), file.getAbsolutePath()));
+            return size;
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error writing to file {0}", file.getAbsolutePath());
             throw new IOException(String.format(UNABLE_TO_CREATE_FILE,
@@ -113,23 +136,28 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
             result.setSuccessful(true);
             return result;
         }
-        StringBuilder jsonData = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonData.append(line);
+        List<String> feedback = new ArrayList<>();
+        boolean hasCorruption = false;
+        int entryIndex = 0;
+        try (EntryReader reader = EntryReader.open(file)) {
+            Object entry;
+            while ((entry = reader.next()) != null) {
+                entryIndex++;
+                try {
+                    addProjectToList(projects, EntryReader.asJsonObject(entry));
+                } catch (JSONException e) {
+                    logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
+                    hasCorruption = true;
+                    feedback.add("Error at JSON entry index: " + entryIndex);
+                    feedback.add("Faulty entry: " + EntryReader.toFaultyEntry(entry));
+                }
             }
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error reading file");
             return errorReadingFile();
-        }
-
-        JSONArray jsonArray;
-        try {
-            jsonArray = new JSONArray(jsonData.toString());
         } catch (JSONException e) {
             logger.log(Level.WARNING, "File is corrupted or not valid JSON: " + e.getMessage());
-            List<String> feedback = new ArrayList<>();
+            feedback.clear();
             feedback.add(CORRUPTED_PROJECT_FILE);
             feedback.add(UNABLE_TO_PARSE_JSON);
             feedback.add("Please fix or delete the file at: " + file.getAbsolutePath());
@@ -137,29 +165,7 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
             result.setSuccessful(false);
             return result;
         }
-        if (jsonArray.isEmpty() && jsonData.length() != 2) {
-            logger.log(Level.WARNING, "Error in formatting such that JSONArray could not be" +
-                    " created successfully");
-            result = errorReadingFile();
-            return result;
-        }
-        assert !(jsonArray.isEmpty() && jsonData.length() != 2)
-            : "Array of JSON objects read from file should not be empty at this point";
-        logger.log(Level.INFO, "Successfully extracted projects as JSON objects from file");
-
-        List<String> feedback = new ArrayList<>();
-        boolean hasCorruption = false;
-        for (int i = 0; i < jsonArray.length(); i++) {
-            JSONObject projectJson = jsonArray.getJSONObject(i);
-            try {
-                addProjectToList(projects, projectJson);
-            } catch (JSONException e) {
-                logger.log(Level.WARNING, "Skipping corrupted entry: " + e.getMessage());
-                hasCorruption = true;
-                feedback.add("Error at JSON entry index: " + (i + 1));
-                feedback.add("Faulty entry: " + projectJson.toString(4));
-            }
-        }
+        logger.log(Level.INFO, String.format("Read %s projects from file", entryIndex));
 
         if (hasCorruption) {
             feedback.add(0, CORRUPTED_PROJECT_FILE);
@@ -180,7 +186,7 @@ public class ProjectStorageHandler implements Storage<ProjectList> {
      *
      * @return CommandResult object indicating the error.
      */
-    private static CommandResult errorReadingFile() {
+    private CommandResult errorReadingFile() {
         CommandResult result;
         List<String> feedback = new ArrayList<>();
         feedback.add(String.format(UNABLE_TO_READ_FILE, file.getAbsolutePath()));
@@ -0,0 +1,204 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Encodes and decodes the parts of a snapshot file.
+ * <p>
+ * A snapshot file holds the same JSON objects as a JSON data file, in a compact binary form:
+ * <pre>
+ * file    := MAGIC VERSION table count record*
+ * table   := block of (count string*), every distinct key and string value in the file, in order of first use
+ * string  := length UTF-8 bytes
+ * record  := block of value, one entry of the file
+ * block   := length bytes CRC32-of-bytes
+ * value   := tag, followed by a varint index into the table for a string or for the JSON text of any other
+ *            number, a zigzag varint for an integer, or a count of (key index, value) pairs or of values for an
+ *            object or array
+ * </pre>
+ * Counts, lengths and indexes are unsigned varints, and checksums are 4 bytes, big-endian. Since each string
+ * is stored once, repeated company names, tech stacks and keys take up one or two bytes per use. Each record
+ * has its own checksum, so a damaged record can be reported and skipped like a corrupted JSON entry.
+ * <p>
+ * Decimals are stored as the text JSON would write for them, and read back the way JSON would parse that text,
+ * so they keep their precision.
+ */
+final class SnapshotCodec {
+    static final byte[] MAGIC = {(byte) 0x89, 'I', 'S', 'S'};
+    static final int VERSION = 1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_FALSE = 1;
+    private static final int TAG_TRUE = 2;
+    private static final int TAG_INTEGER = 3;
+    private static final int TAG_NUMBER = 4;
+    private static final int TAG_STRING = 5;
+    private static final int TAG_OBJECT = 6;
+    private static final int TAG_ARRAY = 7;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Writes a value, adding any string in it that is not yet in the table to the end of the table.
+     *
+     * @param out Output to write the value to.
+     * @param value Value taken from a JSON object.
+     * @param stringIndexes Index in the table of every string added to it so far.
+     * @throws IOException If the value cannot be written.
+     */
+    static void writeValue(DataOutputStream out, Object value, Map<String, Integer> stringIndexes)
+            throws IOException {
+        if (value == null || value == JSONObject.NULL) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            long number = ((Number) value).longValue();
+            out.writeByte(TAG_INTEGER);
+            writeVarLong(out, (number << 1) ^ (number >> 63));
+        } else if (value instanceof Number) {
+            out.writeByte(TAG_NUMBER);
+            writeVarLong(out, indexOf(JSONObject.numberToString((Number) value), stringIndexes));
+        } else if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            out.writeByte(TAG_OBJECT);
+            writeVarLong(out, object.length());
+            for (String key : object.keySet()) {
+                writeVarLong(out, indexOf(key, stringIndexes));
+                writeValue(out, object.get(key), stringIndexes);
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            out.writeByte(TAG_ARRAY);
+            writeVarLong(out, array.length());
+            for (int i = 0; i < array.length(); i++) {
+                writeValue(out, array.get(i), stringIndexes);
+            }
+        } else {
+            // Values such as dates are written the way JSON would write them, as their string form.
+            out.writeByte(TAG_STRING);
+            writeVarLong(out, indexOf(value.toString(), stringIndexes));
+        }
+    }
+
+    /**
+     * Reads a value written by {@link #writeValue}.
+     *
+     * @param in Input to read the value from.
+     * @param strings Strings in the table.
+     * @return The value, as it would have been parsed from JSON.
+     * @throws IOException If the value cannot be read or is not valid.
+     */
+    static Object readValue(DataInput in, List<String> strings) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+        case TAG_NULL:
+            return JSONObject.NULL;
+        case TAG_FALSE:
+            return false;
+        case TAG_TRUE:
+            return true;
+        case TAG_INTEGER:
+            long zigzag = readVarLong(in);
+            long number = (zigzag >>> 1) ^ -(zigzag & 1);
+            return number == (int) number ? Integer.valueOf((int) number) : Long.valueOf(number);
+        case TAG_NUMBER:
+            Object parsedNumber = JSONObject.stringToValue(readString(in, strings));
+            if (!(parsedNumber instanceof Number)) {
+                throw new IOException("Number is not valid: " + parsedNumber);
+            }
+            return parsedNumber;
+        case TAG_STRING:
+            return readString(in, strings);
+        case TAG_OBJECT:
+            JSONObject object = new JSONObject();
+            long size = readVarLong(in);
+            for (long i = 0; i < size; i++) {
+                String key = readString(in, strings);
+                object.put(key, readValue(in, strings));
+            }
+            return object;
+        case TAG_ARRAY:
+            JSONArray array = new JSONArray();
+            long length = readVarLong(in);
+            for (long i = 0; i < length; i++) {
+                array.put(readValue(in, strings));
+            }
+            return array;
+        default:
+            throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Writes bytes as a block: their length, the bytes, and their checksum.
+     *
+     * @param out Stream to write the block to.
+     * @param bytes Content of the block.
+     * @throws IOException If the block cannot be written.
+     */
+    static void writeBlock(OutputStream out, byte[] bytes) throws IOException {
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+        int checksum = checksum(bytes);
+        out.write(checksum >>> 24);
+        out.write(checksum >>> 16);
+        out.write(checksum >>> 8);
+        out.write(checksum);
+    }
+
+    static int checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Varint is too long");
+    }
+
+    private static int indexOf(String string, Map<String, Integer> stringIndexes) {
+        Integer index = stringIndexes.get(string);
+        if (index == null) {
+            index = stringIndexes.size();
+            stringIndexes.put(string, index);
+        }
+        return index;
+    }
+
+    private static String readString(DataInput in, List<String> strings) throws IOException {
+        long index = readVarLong(in);
+        if (index >= strings.size()) {
+            throw new IOException("String index " + index + " is not in the table");
+        }
+        return strings.get((int) index);
+    }
+}
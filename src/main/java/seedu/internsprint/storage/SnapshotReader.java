@@ -0,0 +1,140 @@
+package seedu.internsprint.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the entries of a snapshot file, described in {@link SnapshotCodec}, one at a time.
+ * <p>
+ * A record that fails its checksum is returned as a {@link CorruptedRecord}, and the records after it are
+ * still read. A file whose header or string table is damaged cannot be read at all.
+ */
+class SnapshotReader implements EntryReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataInputStream in;
+    private final long fileLength;
+    private final List<String> strings = new ArrayList<>();
+    private long remainingRecords;
+    private int recordIndex = 0;
+
+    /**
+     * Opens the file and reads its header and string table.
+     *
+     * @param file Snapshot file.
+     * @throws IOException If the file cannot be read, or is not a snapshot of a supported version.
+     */
+    SnapshotReader(File file) throws IOException {
+        fileLength = file.length();
+        in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        try {
+            byte[] magic = new byte[SnapshotCodec.MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, SnapshotCodec.MAGIC)) {
+                throw new IOException("Not a snapshot file: " + file.getAbsolutePath());
+            }
+            int version = in.readUnsignedByte();
+            if (version != SnapshotCodec.VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + file.getAbsolutePath());
+            }
+            readStringTable();
+            remainingRecords = SnapshotCodec.readVarLong(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The next record as a JSON object, a {@link CorruptedRecord} if it is damaged, or null once every
+     *     record has been read.
+     * @throws IOException If the file cannot be read, or ends before its last record.
+     */
+    @Override
+    public Object next() throws IOException {
+        if (remainingRecords == 0) {
+            return null;
+        }
+        remainingRecords--;
+        recordIndex++;
+        byte[] payload = readBlock();
+        if (payload == null) {
+            return new CorruptedRecord(recordIndex, "its checksum does not match");
+        }
+        try {
+            return SnapshotCodec.readValue(new DataInputStream(new ByteArrayInputStream(payload)), strings);
+        } catch (IOException e) {
+            return new CorruptedRecord(recordIndex, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readStringTable() throws IOException {
+        byte[] table = readBlock();
+        if (table == null) {
+            throw new IOException("The string table of the snapshot is corrupted");
+        }
+        DataInputStream tableIn = new DataInputStream(new ByteArrayInputStream(table));
+        long count = SnapshotCodec.readVarLong(tableIn);
+        for (long i = 0; i < count; i++) {
+            byte[] bytes = new byte[checkLength(SnapshotCodec.readVarLong(tableIn))];
+            tableIn.readFully(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Reads a block, checking it against its checksum.
+     *
+     * @return Content of the block, or null if it does not match its checksum.
+     */
+    private byte[] readBlock() throws IOException {
+        byte[] bytes = new byte[checkLength(SnapshotCodec.readVarLong(in))];
+        in.readFully(bytes);
+        int checksum = in.readInt();
+        return checksum == SnapshotCodec.checksum(bytes) ? bytes : null;
+    }
+
+    /**
+     * Checks that a length read from the file could fit in the file, so that a damaged length is not used
+     * to allocate memory.
+     */
+    private int checkLength(long length) throws IOException {
+        if (length > fileLength) {
+            throw new IOException("The snapshot is corrupted or has been cut short");
+        }
+        return (int) length;
+    }
+
+    /**
+     * Represents a record that could not be read, in place of the entry it held.
+     */
+    static final class CorruptedRecord {
+        private final int index;
+        private final String reason;
+
+        private CorruptedRecord(int index, String reason) {
+            this.index = index;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot record " + index + " is corrupted: " + reason;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the entries of a data file as a snapshot, described in {@link SnapshotCodec}.
+ * <p>
+ * The string table comes before the records in the file, but is only complete once every record has been
+ * encoded, so the encoded records are held in memory until {@link #end()} writes the whole file.
+ */
+class SnapshotWriter implements EntryWriter {
+    private final OutputStream out;
+    private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(record);
+    private int recordCount = 0;
+    private boolean isEnded = false;
+
+    SnapshotWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(JSONObject entry) throws IOException {
+        record.reset();
+        SnapshotCodec.writeValue(recordOut, entry, stringIndexes);
+        SnapshotCodec.writeBlock(records, record.toByteArray());
+        recordCount++;
+    }
+
+    @Override
+    public void end() throws IOException {
+        if (isEnded) {
+            return;
+        }
+        isEnded = true;
+        ByteArrayOutputStream table = new ByteArrayOutputStream();
+        SnapshotCodec.writeVarLong(table, stringIndexes.size());
+        for (String string : stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            SnapshotCodec.writeVarLong(table, bytes.length);
+            table.write(bytes);
+        }
+
+        out.write(SnapshotCodec.MAGIC);
+        out.write(SnapshotCodec.VERSION);
+        SnapshotCodec.writeBlock(out, table.toByteArray());
+        SnapshotCodec.writeVarLong(out, recordCount);
+        records.writeTo(out);
+        out.flush();
+    }
+}
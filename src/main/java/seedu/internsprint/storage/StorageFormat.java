@@ -0,0 +1,58 @@
+package seedu.internsprint.storage;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Represents a format that the internship, interview and project data files can be saved in.
+ * <p>
+ * JSON files are easy to read and edit by hand. Snapshot files, described in {@link SnapshotCodec}, are smaller
+ * and faster to load. A file is always read in the format given by its first bytes, so either format can be
+ * loaded whichever one is being saved.
+ */
+enum StorageFormat {
+    JSON,
+    SNAPSHOT;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Finds the format a data file is saved in. A file that is missing or empty is taken to be JSON.
+     *
+     * @param file Data file.
+     * @return Format of the file.
+     * @throws IOException If the file cannot be read.
+     */
+    static StorageFormat of(File file) throws IOException {
+        if (!file.isFile() || file.length() < SnapshotCodec.MAGIC.length) {
+            return JSON;
+        }
+        byte[] header = new byte[SnapshotCodec.MAGIC.length];
+        try (InputStream in = new FileInputStream(file)) {
+            int read = in.readNBytes(header, 0, header.length);
+            return read == header.length && Arrays.equals(header, SnapshotCodec.MAGIC) ? SNAPSHOT : JSON;
+        }
+    }
+
+    /**
+     * Creates a writer that writes a data file in this format.
+     *
+     * @param out Stream to write the data file to.
+     * @return Writer for the entries of the file.
+     * @throws IOException If the start of the file cannot be written.
+     */
+    EntryWriter newWriter(OutputStream out) throws IOException {
+        if (this == SNAPSHOT) {
+            return new SnapshotWriter(out);
+        }
+        return new JsonArrayStreamWriter(new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()),
+                BUFFER_SIZE));
+    }
+}
@@ -1,36 +1,111 @@
 package seedu.internsprint.storage;
 
+import seedu.internsprint.events.StorageEvent;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.InternshipList;
 import seedu.internsprint.model.userprofile.UserProfile;
 import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.util.InternSprintLogger;
+import seedu.internsprint.util.MetricsRegistry;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Manages the storage of data in the application.
  * <p>
  * This class is a singleton, meaning that there is only one instance of it in the application.
  * It is responsible for creating and managing the storage handlers for different types of data.
+ * Every save and load is timed in the {@link MetricsRegistry}, together with the size of the file written or read,
+ * and is recorded as a {@link StorageEvent} when the flight recorder is running.
+ * <p>
+ * Saves can be deferred, either until they are flushed, or in write-behind mode, until a background thread writes
+ * them shortly after the last change. Anything that reads or changes the data while write-behind mode may be
+ * writing it should do so through {@link #runExclusively(Supplier)}.
+ * <p>
+ * Every data file is replaced atomically through an {@link AtomicFileCommit}. Files that are saved together,
+ * such as the internship and interview files, or everything written by a flush, are replaced in one group commit.
+ * The files of a group commit are renamed one after another, so a crash part way through the renames can leave
+ * some of them new and the rest old. Emptying the journal is not part of the renames either. It is made safe by
+ * the checkpoint file of {@link InternshipJournalHandler}, which is renamed after the data files: a journal left
+ * in place by a crash is either skipped on the next load, or replayed onto data files that already hold its
+ * changes, which changes nothing.
+ * <p>
+ * The internship, interview and project files are saved as JSON, or as compact binary snapshots once snapshots
+ * are enabled. Each file is loaded in whichever format it is in, and a file loaded in the other format is
+ * rewritten in the current one by the next save.
  */
 public class StorageManager {
 
+    private static final int DEFAULT_JOURNAL_CHECKPOINT_INTERVAL = 200;
+    private static final int DATA_STORE_COUNT = 4;
+    private static final long WRITE_BEHIND_DELAY_MILLIS = 200;
+    private static final long WRITE_BEHIND_MAX_DELAY_MILLIS = 2000;
     private static StorageManager storageManager;
     private static boolean isConfigured = false;
+    private static final MetricsRegistry metrics = MetricsRegistry.getInstance();
+    private static final Logger logger = InternSprintLogger.getLogger();
 
     private final InternshipStorageHandler internshipStorageHandler;
     private final ProjectStorageHandler projectStorageHandler;
     private final ProfileStorageHandler profileStorageHandler;
     private final InterviewStorageHandler interviewStorageHandler;
+    private final InternshipJournalHandler internshipJournalHandler;
+    private boolean isJournalEnabled = false;
+    private int journalCheckpointInterval = DEFAULT_JOURNAL_CHECKPOINT_INTERVAL;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private boolean isSavingDeferred = false;
+    private boolean isWriteBehindEnabled = false;
+    private boolean isFlushing = false;
+    private ScheduledExecutorService writeBehindExecutor;
+    private boolean isWriteBehindScheduled = false;
+    private long firstDeferredChangeNanos;
+    private long lastDeferredChangeNanos;
+    private final AtomicReference<String> writeBehindFailure = new AtomicReference<>();
+    private InternshipList deferredInternships;
+    private ProjectList deferredProjects;
+    private UserProfile deferredUserProfile;
+    private AtomicFileCommit groupCommit;
+    private final List<StorageAction> afterGroupCommit = new ArrayList<>();
 
     private StorageManager() {
-        this.internshipStorageHandler = new InternshipStorageHandler();
-        this.projectStorageHandler = new ProjectStorageHandler();
-        this.profileStorageHandler = new ProfileStorageHandler();
-        this.interviewStorageHandler = new InterviewStorageHandler();
+        this(new File("data"));
         isConfigured = true;
     }
 
+    /**
+     * Creates a storage manager that keeps every data file in the given directory instead of the usual one.
+     * Unlike {@link #getInstance()}, this does not create the instance used by the rest of the application.
+     *
+     * @param dataDirectory Directory to keep the data files in.
+     */
+    StorageManager(File dataDirectory) {
+        this.internshipStorageHandler =
+                new InternshipStorageHandler(inDirectory(dataDirectory, InternshipStorageHandler.FILE_PATH));
+        this.projectStorageHandler =
+                new ProjectStorageHandler(inDirectory(dataDirectory, ProjectStorageHandler.FILE_PATH));
+        this.profileStorageHandler =
+                new ProfileStorageHandler(inDirectory(dataDirectory, ProfileStorageHandler.FILE_PATH));
+        this.interviewStorageHandler =
+                new InterviewStorageHandler(inDirectory(dataDirectory, InterviewStorageHandler.FILE_PATH));
+        this.internshipJournalHandler = new InternshipJournalHandler(
+                inDirectory(dataDirectory, InternshipJournalHandler.FILE_PATH),
+                inDirectory(dataDirectory, InternshipJournalHandler.CHECKPOINT_FILE_PATH));
+    }
+
     public static StorageManager getInstance() {
         if (!isConfigured) {
             storageManager = new StorageManager();
@@ -38,43 +113,506 @@ public class StorageManager {
         return storageManager;
     }
 
+    /**
+     * Returns the file with the name of the given data file, in the given directory.
+     */
+    private static File inDirectory(File dataDirectory, String filePath) {
+        return new File(dataDirectory, new File(filePath).getName());
+    }
+
+    // ================= Startup methods =================
+
+    /**
+     * Loads every data store, reading the files that do not depend on each other at the same time.
+     * <p>
+     * The internships, the user profile and the projects are each loaded on their own thread. The interview
+     * file is parsed while the internships load, and its interviews are added to their internships once the
+     * internships have all loaded. The journal is replayed after that, as in {@link #loadInterviewData}.
+     *
+     * @param internships List to load the internships and interviews into.
+     * @param userProfile User profile to load the profile and projects into.
+     * @return Results of loading the internships, interviews, user profile and projects, in that order.
+     */
+    public List<CommandResult> loadAllData(InternshipList internships, UserProfile userProfile) {
+        ExecutorService executor = Executors.newFixedThreadPool(DATA_STORE_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "InternSprint-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<CommandResult> internshipResult =
+                    CompletableFuture.supplyAsync(() -> loadInternshipData(internships), executor);
+            CompletableFuture<CommandResult> interviewResult =
+                    CompletableFuture.supplyAsync(() -> loadInterviewData(internships, internshipResult), executor);
+            CompletableFuture<CommandResult> profileResult =
+                    CompletableFuture.supplyAsync(() -> loadUserProfileData(userProfile), executor);
+            CompletableFuture<CommandResult> projectResult =
+                    CompletableFuture.supplyAsync(() -> loadProjectData(userProfile.projects), executor);
+            return List.of(join(internshipResult), join(interviewResult), join(profileResult), join(projectResult));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the result of a load, rethrowing any exception thrown by the load itself.
+     */
+    private static CommandResult join(CompletableFuture<CommandResult> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
     // ================= Internship methods =================
 
     public void saveInternshipData(InternshipList internships) throws IOException {
-        internshipStorageHandler.save(internships);
+        StorageTimer timer = new StorageTimer();
+        long bytes = stageOrCommit(commit -> internshipStorageHandler.save(internships, storageFormat, commit));
+        timer.stop("save internships", internshipStorageHandler.getFile(), bytes, internships::getInternshipCount);
     }
 
     public CommandResult loadInternshipData(InternshipList internships) {
-        return internshipStorageHandler.load(internships);
+        StorageTimer timer = new StorageTimer();
+        CommandResult result = internshipStorageHandler.load(internships);
+        timer.stop("load internships", internshipStorageHandler.getFile(), internships::getInternshipCount);
+        if (isInSaveFormat(internshipStorageHandler.getFile())) {
+            internships.markInternshipsSaved();
+        }
+        return result;
     }
 
     // ================= Interview methods =================
 
     public void saveInterviewData(InternshipList internships) throws IOException {
-        interviewStorageHandler.save(internships);
+        StorageTimer timer = new StorageTimer();
+        long bytes = stageOrCommit(commit -> interviewStorageHandler.save(internships, storageFormat, commit));
+        timer.stop("save interviews", interviewStorageHandler.getFile(), bytes,
+                () -> internships.getInterviewList().size());
     }
 
+    /**
+     * Loads the interviews from storage, then replays the internship journal on top of the loaded
+     * internships and interviews.
+     *
+     * @param internships List of internships that have been loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
     public CommandResult loadInterviewData(InternshipList internships) {
-        return interviewStorageHandler.load(internships);
+        return loadInterviewData(internships, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Loads the interviews from storage while the internships may still be loading, then replays the
+     * internship journal on top of the loaded internships and interviews.
+     * <p>
+     * The interview handler returns without waiting for the internships if the interview file is missing or
+     * cannot be read, so the internships are waited for here as well, since nothing else may touch the list
+     * while they are still being added to it.
+     *
+     * @param internships List of internships that the interviews belong to.
+     * @param internshipsLoaded Completes once every internship has been loaded.
+     * @return CommandResult object indicating the success of the operation.
+     */
+    private CommandResult loadInterviewData(InternshipList internships, CompletableFuture<?> internshipsLoaded) {
+        StorageTimer timer = new StorageTimer();
+        CommandResult result = interviewStorageHandler.load(internships, internshipsLoaded);
+        internshipsLoaded.join();
+        timer.stop("load interviews", interviewStorageHandler.getFile(), () -> internships.getInterviewList().size());
+        if (isInSaveFormat(interviewStorageHandler.getFile())) {
+            internships.markInterviewsSaved();
+        }
+        StorageTimer journalTimer = new StorageTimer();
+        CommandResult journalResult = internshipJournalHandler.load(internships);
+        journalTimer.stop("load journal", internshipJournalHandler.getFile(), internshipJournalHandler::getRecordCount);
+        internships.clearPendingChanges();
+        return result.isSuccessful() ? journalResult : result;
+    }
+
+    // ================= Journal methods =================
+
+    /**
+     * Persists the changes made to the internship list since the last save.
+     * <p>
+     * In journal mode, the changes are appended to the journal, and the internship and interview files
+     * are only rewritten once the journal holds as many records as the journal checkpoint interval, 200 unless
+     * set with {@link #setJournalCheckpointInterval(int)}. Otherwise, both files are rewritten.
+     * While saving is deferred, the changes are kept until {@link #flushDeferredSaves()} is called.
+     *
+     * @param internships List of internships whose changes are to be saved.
+     */
+    public synchronized void commitInternshipChanges(InternshipList internships) throws IOException {
+        if (isDeferring()) {
+            deferredInternships = internships;
+            if (!isJournalEnabled) {
+                internships.clearPendingChanges();
+            }
+            onSaveDeferred();
+            return;
+        }
+        if (isJournalEnabled) {
+            long journalSize = getFileSize(internshipJournalHandler.getFile());
+            int recordCount = internshipJournalHandler.getRecordCount();
+            StorageTimer timer = new StorageTimer();
+            internshipJournalHandler.save(internships);
+            timer.stop("append journal", internshipJournalHandler.getFile(),
+                    getFileSize(internshipJournalHandler.getFile()) - journalSize,
+                    () -> internshipJournalHandler.getRecordCount() - recordCount);
+            if (internshipJournalHandler.getRecordCount() >= journalCheckpointInterval) {
+                checkpointInternshipData(internships);
+            }
+        } else {
+            checkpointInternshipData(internships);
+        }
+        internships.clearPendingChanges();
+    }
+
+    /**
+     * Rewrites the internship and interview files in full, replacing them in one group commit, and empties
+     * the journal once they have been replaced. A file is only rewritten if what it holds has changed since
+     * it was last written.
+     * <p>
+     * If the journal holds records, the checkpoint file is replaced in the same group commit, after the data
+     * files, so that the records are skipped on the next load even if the journal is not emptied before a crash.
+     *
+     * @param internships List of internships to be saved.
+     */
+    public synchronized void checkpointInternshipData(InternshipList internships) throws IOException {
+        runGroupCommit(() -> {
+            if (internships.hasUnsavedInternships()) {
+                saveInternshipData(internships);
+                afterGroupCommit.add(internships::markInternshipsSaved);
+            }
+            if (internships.hasUnsavedInterviews()) {
+                saveInterviewData(internships);
+                afterGroupCommit.add(internships::markInterviewsSaved);
+            }
+            if (internshipJournalHandler.hasRecords()) {
+                stageOrCommit(internshipJournalHandler::stageCheckpoint);
+                afterGroupCommit.add(internshipJournalHandler::completeCheckpoint);
+            }
+        });
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    /**
+     * Sets how many records the journal may hold before the internship and interview files are rewritten and
+     * the journal is emptied. A larger interval makes saves cheaper, but leaves more records to replay on load.
+     *
+     * @param journalCheckpointInterval Number of records that triggers a checkpoint, at least 1.
+     */
+    public void setJournalCheckpointInterval(int journalCheckpointInterval) {
+        assert journalCheckpointInterval > 0 : "Journal checkpoint interval should be positive";
+        this.journalCheckpointInterval = journalCheckpointInterval;
+    }
+
+    // ================= Storage format methods =================
+
+    /**
+     * Sets whether the internship, interview and project files are saved as binary snapshots instead of JSON.
+     * Files are loaded in whichever format they are in, whatever this is set to.
+     *
+     * @param isSnapshotEnabled True to save snapshots.
+     */
+    public void setSnapshotEnabled(boolean isSnapshotEnabled) {
+        storageFormat = isSnapshotEnabled ? StorageFormat.SNAPSHOT : StorageFormat.JSON;
+    }
+
+    /**
+     * Checks if the data file is in the format that files are saved in, so that a file loaded in the other
+     * format can be left marked as unsaved, to be converted by the next save.
+     */
+    private boolean isInSaveFormat(File file) {
+        try {
+            return StorageFormat.of(file) == storageFormat;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // ================= Deferred saving methods =================
+
+    /**
+     * Sets whether saves are deferred. While saves are deferred, saving internships, projects or the user
+     * profile only remembers what has to be saved, and nothing is written until the saves are flushed.
+     *
+     * @param isSavingDeferred True to defer saves.
+     */
+    public void setSavingDeferred(boolean isSavingDeferred) {
+        this.isSavingDeferred = isSavingDeferred;
+    }
+
+    /**
+     * Sets whether saves are written behind. In write-behind mode, saving only remembers what has to be saved,
+     * like deferred saving, and a background thread writes it once no change has been made for a short while.
+     * A burst of changes is written once, though never later than a few seconds after its first change.
+     *
+     * @param isWriteBehindEnabled True to write saves behind.
+     */
+    public synchronized void setWriteBehindEnabled(boolean isWriteBehindEnabled) {
+        this.isWriteBehindEnabled = isWriteBehindEnabled;
+        if (isWriteBehindEnabled && writeBehindExecutor == null) {
+            writeBehindExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "InternSprint-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Runs an action that reads or changes the data, while no background save is writing it.
+     *
+     * @param action Action to be run.
+     * @return Result of the action.
+     */
+    public synchronized <T> T runExclusively(Supplier<T> action) {
+        return action.get();
+    }
+
+    /**
+     * Returns the error of the last background save that failed since this was last called, if any.
+     * What failed to save is kept, and is written again with the next save or flush.
+     *
+     * @return Message of the error, or null if no background save has failed.
+     */
+    public String takeWriteBehindFailure() {
+        return writeBehindFailure.getAndSet(null);
+    }
+
+    /**
+     * Writes everything whose save was deferred since the last flush, once each.
+     * Anything that fails to be written is kept, to be written again with the next flush.
+     */
+    public synchronized void flushDeferredSaves() throws IOException {
+        InternshipList internships = deferredInternships;
+        ProjectList projects = deferredProjects;
+        UserProfile userProfile = deferredUserProfile;
+        isFlushing = true;
+        try {
+            runGroupCommit(() -> {
+                if (internships != null) {
+                    commitInternshipChanges(internships);
+                }
+                if (projects != null) {
+                    saveProjectData(projects);
+                }
+                if (userProfile != null) {
+                    saveUserProfileData(userProfile);
+                }
+            });
+        } finally {
+            isFlushing = false;
+        }
+        deferredInternships = null;
+        deferredProjects = null;
+        deferredUserProfile = null;
+    }
+
+    private boolean isDeferring() {
+        return (isSavingDeferred || isWriteBehindEnabled) && !isFlushing;
+    }
+
+    /**
+     * Notes that a save has been deferred, and in write-behind mode, makes sure that a background save is
+     * scheduled.
+     */
+    private void onSaveDeferred() {
+        if (!isWriteBehindEnabled) {
+            return;
+        }
+        lastDeferredChangeNanos = System.nanoTime();
+        if (!isWriteBehindScheduled) {
+            isWriteBehindScheduled = true;
+            firstDeferredChangeNanos = lastDeferredChangeNanos;
+            writeBehindExecutor.schedule(this::writeBehind, WRITE_BEHIND_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the deferred saves on the background thread, unless a change was made too recently, in which
+     * case the write is put off until the changes have settled.
+     */
+    private synchronized void writeBehind() {
+        long now = System.nanoTime();
+        long quietMillis = TimeUnit.NANOSECONDS.toMillis(now - lastDeferredChangeNanos);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(now - firstDeferredChangeNanos);
+        if (quietMillis < WRITE_BEHIND_DELAY_MILLIS && waitedMillis < WRITE_BEHIND_MAX_DELAY_MILLIS) {
+            writeBehindExecutor.schedule(this::writeBehind, WRITE_BEHIND_DELAY_MILLIS - quietMillis,
+                    TimeUnit.MILLISECONDS);
+            return;
+        }
+        isWriteBehindScheduled = false;
+        try {
+            flushDeferredSaves();
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.SEVERE, "Error writing deferred saves in the background", e);
+            writeBehindFailure.set(e.getMessage());
+        }
     }
 
     // ================== UserProfile methods =================
 
-    public void saveUserProfileData(UserProfile userProfile) throws IOException {
-        profileStorageHandler.save(userProfile);
+    public synchronized void saveUserProfileData(UserProfile userProfile) throws IOException {
+        if (isDeferring()) {
+            deferredUserProfile = userProfile;
+            onSaveDeferred();
+            return;
+        }
+        StorageTimer timer = new StorageTimer();
+        long bytes = stageOrCommit(commit -> profileStorageHandler.save(userProfile, commit));
+        timer.stop("save profile", profileStorageHandler.getFile(), bytes, () -> 1);
     }
 
     public CommandResult loadUserProfileData(UserProfile userProfile) {
-        return profileStorageHandler.load(userProfile);
+        StorageTimer timer = new StorageTimer();
+        CommandResult result = profileStorageHandler.load(userProfile);
+        timer.stop("load profile", profileStorageHandler.getFile(), () -> 1);
+        return result;
     }
 
     // ================== Project methods =================
 
-    public void saveProjectData(ProjectList projects) throws IOException {
-        projectStorageHandler.save(projects);
+    /**
+     * Saves the projects, unless none of them has changed since they were last saved.
+     *
+     * @param projects List of projects to be saved.
+     */
+    public synchronized void saveProjectData(ProjectList projects) throws IOException {
+        if (!projects.hasUnsavedProjects()) {
+            return;
+        }
+        if (isDeferring()) {
+            deferredProjects = projects;
+            onSaveDeferred();
+            return;
+        }
+        runGroupCommit(() -> {
+            StorageTimer timer = new StorageTimer();
+            long bytes = stageOrCommit(commit -> projectStorageHandler.save(projects, storageFormat, commit));
+            timer.stop("save projects", projectStorageHandler.getFile(), bytes, projects::getProjectCount);
+            afterGroupCommit.add(projects::markProjectsSaved);
+        });
     }
 
     public CommandResult loadProjectData(ProjectList projects) {
-        return projectStorageHandler.load(projects);
+        StorageTimer timer = new StorageTimer();
+        CommandResult result = projectStorageHandler.load(projects);
+        timer.stop("load projects", projectStorageHandler.getFile(), projects::getProjectCount);
+        if (isInSaveFormat(projectStorageHandler.getFile())) {
+            projects.markProjectsSaved();
+        }
+        return result;
+    }
+
+    // ================= Atomic save methods =================
+
+    /**
+     * Stages a file in the group commit that is open, if any, or otherwise replaces it in a commit of its own.
+     *
+     * @param save Stages the file in the given commit.
+     * @return Size of the staged file in bytes.
+     */
+    private long stageOrCommit(StagedSave save) throws IOException {
+        if (groupCommit != null) {
+            return save.stage(groupCommit);
+        }
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            long bytes = save.stage(commit);
+            commit.commit();
+            return bytes;
+        }
+    }
+
+    /**
+     * Runs saves whose files are all replaced together once the saves have been staged.
+     * Saves run inside another group commit join it, so that everything is replaced by the outermost one.
+     * Actions added to {@code afterGroupCommit} are run once the files have been replaced, and are dropped if
+     * replacing them fails. They are not part of the commit, and a crash can happen before they run, so what
+     * they do must be safe to leave undone.
+     *
+     * @param saves Saves to be run.
+     */
+    private void runGroupCommit(StorageAction saves) throws IOException {
+        if (groupCommit != null) {
+            saves.run();
+            return;
+        }
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            groupCommit = commit;
+            saves.run();
+            groupCommit = null;
+            commit.commit();
+            for (StorageAction action : afterGroupCommit) {
+                action.run();
+            }
+        } finally {
+            groupCommit = null;
+            afterGroupCommit.clear();
+        }
+    }
+
+    /**
+     * Returns the size of the file, or 0 if it does not exist.
+     */
+    private static long getFileSize(File file) {
+        return file.length();
+    }
+
+    /**
+     * Stages the new content of one data file in a commit.
+     */
+    private interface StagedSave {
+        long stage(AtomicFileCommit commit) throws IOException;
+    }
+
+    /**
+     * Reads or writes the data files.
+     */
+    private interface StorageAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Times one save or load, for both the metrics and the flight recorder.
+     * The number of entries is only counted if the flight recorder is recording storage events.
+     */
+    private static final class StorageTimer {
+        private final StorageEvent event = new StorageEvent();
+        private final MetricsRegistry.Sample sample;
+
+        private StorageTimer() {
+            event.begin();
+            sample = metrics.start();
+        }
+
+        private void stop(String operation, File file, IntSupplier entryCount) {
+            stop(operation, file, getFileSize(file), entryCount);
+        }
+
+        private void stop(String operation, File file, long bytes, IntSupplier entryCount) {
+            sample.stop(operation, bytes);
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.file = file.getPath();
+                event.bytes = bytes;
+                event.entryCount = entryCount.getAsInt();
+                event.commit();
+            }
+        }
     }
 }
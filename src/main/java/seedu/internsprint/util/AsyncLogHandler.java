@@ -0,0 +1,223 @@
+package seedu.internsprint.util;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes log records to a file on a background thread, so that logging never waits for the disk.
+ * <p>
+ * Records are handed to the writer thread through a fixed-size ring buffer without taking any locks.
+ * If the buffer is full, a record below {@link Level#WARNING} is dropped rather than making the caller wait,
+ * and the number of dropped records is written to the log once there is room again. A warning or error
+ * instead waits for the writer thread to make room, so that it is never lost while the writer is running. When the log file grows past its
+ * maximum size, it is renamed with the suffix ".1", older files are shifted up to the maximum number of
+ * backups, and a new file is started.
+ */
+public class AsyncLogHandler extends Handler {
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long FULL_BUFFER_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int capacity;
+    private final AtomicLong nextWrite = new AtomicLong();
+    private final AtomicLong nextRead = new AtomicLong();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final File file;
+    private final long maxFileSize;
+    private final int maxBackups;
+    private final Thread writerThread;
+    private volatile boolean isClosed = false;
+    private Writer writer;
+    private long fileSize;
+
+    /**
+     * Creates a handler that appends to the given file and starts its writer thread.
+     *
+     * @param file File to write the log to.
+     * @param capacity Maximum number of records waiting to be written.
+     * @param maxFileSize Size in bytes after which the file is rotated.
+     * @param maxBackups Number of rotated files to keep.
+     */
+    public AsyncLogHandler(File file, int capacity, long maxFileSize, int maxBackups) {
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.capacity = capacity;
+        this.file = file;
+        this.maxFileSize = maxFileSize;
+        this.maxBackups = maxBackups;
+        this.writerThread = new Thread(this::runWriter, "InternSprint-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Hands the record to the writer thread. If too many records are already waiting, a warning or error
+     * waits until the writer thread has made room, and any other record is dropped.
+     *
+     * @param record Record to be logged.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is only known on this thread, so it is looked up before the record is handed over.
+        record.getSourceClassName();
+
+        while (true) {
+            long index = nextWrite.get();
+            if (index - nextRead.get() < capacity) {
+                if (nextWrite.compareAndSet(index, index + 1)) {
+                    buffer.lazySet((int) (index % capacity), record);
+                    return;
+                }
+            } else if (!canWaitForRoom(record)) {
+                droppedRecords.incrementAndGet();
+                return;
+            } else {
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, FULL_BUFFER_WAIT_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Wakes the writer thread so that waiting records are written soon.
+     */
+    @Override
+    public void flush() {
+        LockSupport.unpark(writerThread);
+    }
+
+    /**
+     * Writes every waiting record, stops the writer thread and closes the file.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks if the record is worth waiting for room in the buffer, and if the writer thread will make room.
+     */
+    private boolean canWaitForRoom(LogRecord record) {
+        return record.getLevel().intValue() >= Level.WARNING.intValue()
+                && writerThread.isAlive() && Thread.currentThread() != writerThread;
+    }
+
+    private void runWriter() {
+        try {
+            openFile();
+            while (!isClosed) {
+                if (!writeWaitingRecords()) {
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                }
+            }
+            writeWaitingRecords();
+            writer.close();
+        } catch (IOException e) {
+            reportError("Unable to write log file " + file.getAbsolutePath(), e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * Writes every record that has been handed over so far.
+     *
+     * @return True if any record was written.
+     */
+    private boolean writeWaitingRecords() throws IOException {
+        boolean hasWritten = false;
+        long index = nextRead.get();
+        while (index < nextWrite.get()) {
+            int slot = (int) (index % capacity);
+            LogRecord record = buffer.get(slot);
+            if (record == null) {
+                // The record was claimed but is not stored yet.
+                Thread.onSpinWait();
+                continue;
+            }
+            buffer.lazySet(slot, null);
+            index++;
+            nextRead.lazySet(index);
+            write(getFormatter().format(record));
+            hasWritten = true;
+        }
+        long dropped = droppedRecords.getAndSet(0);
+        if (dropped > 0) {
+            write(String.format("%d log records were dropped because the log could not keep up%n", dropped));
+            hasWritten = true;
+        }
+        if (hasWritten) {
+            writer.flush();
+        }
+        return hasWritten;
+    }
+
+    private void write(String text) throws IOException {
+        long textSize = text.getBytes(StandardCharsets.UTF_8).length;
+        if (fileSize > 0 && fileSize + textSize > maxFileSize) {
+            rotateFile();
+        }
+        writer.write(text);
+        fileSize += textSize;
+    }
+
+    private void openFile() throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+        }
+        fileSize = file.length();
+        writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Renames the current file and every older backup one number up, deleting the oldest, and starts a new file.
+     */
+    private void rotateFile() throws IOException {
+        writer.close();
+        File oldestBackup = getBackupFile(maxBackups);
+        if (oldestBackup.exists() && !oldestBackup.delete()) {
+            throw new IOException("Unable to delete old log file " + oldestBackup.getAbsolutePath());
+        }
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            File backup = getBackupFile(i);
+            if (backup.exists() && !backup.renameTo(getBackupFile(i + 1))) {
+                throw new IOException("Unable to rotate log file " + backup.getAbsolutePath());
+            }
+        }
+        if (maxBackups > 0 && !file.renameTo(getBackupFile(1))) {
+            throw new IOException("Unable to rotate log file " + file.getAbsolutePath());
+        }
+        if (maxBackups == 0 && !file.delete()) {
+            throw new IOException("Unable to delete log file " + file.getAbsolutePath());
+        }
+        openFile();
+    }
+
+    private File getBackupFile(int number) {
+        return new File(file.getPath() + "." + number);
+    }
+}
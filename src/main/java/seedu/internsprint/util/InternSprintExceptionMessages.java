@@ -19,6 +19,13 @@ public class InternSprintExceptionMessages {
     public static final String UNABLE_TO_WRITE_FILE = "Unable to write to file: %s.\n" +
         "    Please check if the file is open in another program or the program will continue without saving.";
     public static final String UNABLE_TO_READ_FILE = "Unable to read file: %s";
+    public static final String INVALID_LAUNCH_ARGUMENTS = "Invalid launch arguments. Use --script FILE to run the"
+        + " commands in a file,\n    optionally with --checkpoint N to save after every N commands,\n"
+        + "    --metrics FILE to write metrics to a file on exit,\n"
+        + "    and --journal-checkpoint N with a positive N to empty the journal every N changes.";
+    public static final String UNABLE_TO_WRITE_METRICS = "Unable to write metrics to file: %s";
+    public static final String WRITE_BEHIND_FAILED = "Your recent changes could not be saved in the background: %s\n"
+        + "    They will be saved again with your next change, or when you exit.";
 
     public static final String EDIT_UNABLE_TO_FIND_INTERNSHIP = """
            You have entered the wrong flag for this type of internship.""";
@@ -35,8 +42,20 @@ public class InternSprintExceptionMessages {
             + "    The edit command works as mentioned below:";
     public static final String LIST_INVALID_PARAMS = "You have entered invalid parameters to the list command.\n"
             + "    The list command works as mentioned below:";
+    public static final String LIST_INVALID_PAGE = "There is no page %d. Your internship list has %d pages at this "
+            + "page size.";
     public static final String SORT_INTERVIEWS_INVALID_PARAMS = "You have entered invalid parameters to the sort " +
             "command.\n The sort interviews command works as mentioned below:";
+    public static final String SORT_INTERVIEWS_INVALID_RANGE = "The /from date should not be after the /to date.";
+    public static final String STATS_INVALID_PARAMS = "The stats command does not take any parameters.\n"
+            + "    The stats command works as mentioned below:";
+    public static final String CLASHES_INVALID_PARAMS = "The clashes command does not take any parameters.\n"
+            + "    The clashes command works as mentioned below:";
+    public static final String FREE_SLOTS_INVALID_PARAMS = "You have not entered a valid date range or a valid "
+            + "length in minutes.\n" + "    The free command works as mentioned below:";
+    public static final String FREE_SLOTS_INVALID_RANGE = "The /from date should not be after the /to date, and the "
+            + "range should not span more than %d days.";
+    public static final String FREE_SLOTS_INVALID_HOURS = "The /start time should be before the /end time.";
     public static final String USERPROFILE_INVALID_PARAMS = "You have not entered a valid parameter to user profile.\n"
             + "    The user profile command works as mentioned below:";
     public static final String INVALID_CATEGORY_ERROR = "Invalid type provided: Valid types are: " +
@@ -55,7 +74,10 @@ public class InternSprintExceptionMessages {
             "commands or 'help COMMAND' for specific command instructions.";
     public static final String DESC_INVALID_PARAMS = "You have not entered a valid index to show the description.\n"
             + "The desc command works as mentioned below:";
+    public static final String SEARCH_INVALID_PARAMS = "You have not entered words to search for or a valid number "
+            + "of results.\n" + "The search command works as mentioned below:";
     public static final String DUPLICATE_INTERNSHIP = "This internship already exists in your list.";
+    public static final String INTERNSHIP_ID_NOT_FOUND = "No internship with ID %d exists.";
     public static final String DUPLICATE_INTERVIEW = "An interview with the same date and time already exists for " +
         "that internship.\n" + "    Please check your date and time or the internship you are referring to.";
     public static final String UNABLE_TO_SAVE_PROFILE = "Unable to save user profile to file %s";
@@ -64,6 +86,7 @@ public class InternSprintExceptionMessages {
     public static final String CORRUPTED_PROJECT_FILE = "The project data file is corrupted.";
     public static final String CORRUPTED_INTERVIEW_FILE = "The interview data file is corrupted.";
     public static final String CORRUPTED_PROFILE_FILE = "The profile data file is corrupted.";
+    public static final String CORRUPTED_JOURNAL_FILE = "The internship journal file is corrupted.";
     public static final String UNABLE_TO_PARSE_JSON = "Unable to parse JSON data. Please check for syntax errors " +
         "like missing commas, colons, quotes, or brackets";
 }
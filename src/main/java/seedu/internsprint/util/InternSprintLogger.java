@@ -1,17 +1,24 @@
 package seedu.internsprint.util;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+/**
+ * Configures the logger shared by the whole application.
+ * <p>
+ * Log records are written to {@code log/InternSprint.log} on a background thread, and the file is rotated
+ * once it reaches 1 MB. Messages that are expensive to build should be passed
+ * as a {@code Supplier<String>}, so that they are only built when their level is logged.
+ */
 public class InternSprintLogger {
-    private static Logger rootLogger;
     private static final String FILE_PATH = "./log/InternSprint.log";
+    private static final int LOG_BUFFER_CAPACITY = 8192;
+    private static final long MAX_LOG_FILE_SIZE = 1024 * 1024;
+    private static final int MAX_LOG_BACKUPS = 3;
+    private static Logger rootLogger;
     private static boolean isConfigured = false;
 
     /**
@@ -53,31 +60,18 @@ public class InternSprintLogger {
     }
 
     /**
-     * Configures and adds a FileHandler to the given logger.
-     * This method ensures that the log file and its parent directories exist.
+     * Configures and adds an AsyncLogHandler to the given logger.
+     * The handler is closed when the application exits, so that every waiting record is written.
      *
-     * @param logger the logger to which the FileHandler will be added.
+     * @param logger the logger to which the AsyncLogHandler will be added.
      */
     private static void configureFileHandler(Logger logger) {
-        try {
-            File file = new File(FILE_PATH);
-
-            if (!file.exists()) {
-                boolean dirCreated = file.getParentFile().mkdirs();
-                boolean fileCreated = file.createNewFile();
-
-                if (!fileCreated || !dirCreated) {
-                    throw new FileNotFoundException();
-                }
-            }
-
-            FileHandler fileHandler = new FileHandler(FILE_PATH, true);
-            fileHandler.setLevel(Level.ALL);
-            fileHandler.setFormatter(new SimpleFormatter());
-            rootLogger.addHandler(fileHandler);
-        } catch (IOException e) {
-            rootLogger.log(Level.SEVERE, "Unable to configure logging", e);
-        }
+        AsyncLogHandler fileHandler = new AsyncLogHandler(new File(FILE_PATH), LOG_BUFFER_CAPACITY,
+                MAX_LOG_FILE_SIZE, MAX_LOG_BACKUPS);
+        fileHandler.setLevel(Level.ALL);
+        fileHandler.setFormatter(new SimpleFormatter());
+        rootLogger.addHandler(fileHandler);
+        Runtime.getRuntime().addShutdownHook(new Thread(fileHandler::close, "InternSprint-log-closer"));
     }
 
     /**
@@ -6,6 +6,7 @@ public class InternSprintMessages {
     public static final String EDIT_MESSAGE_FAILURE = "Internship NOT edited successfully.";
     public static final String LOADING_DATA_SUCCESS = "Your previous saved data is set up and ready to go!";
     public static final String LIST_MESSAGE_SUCCESS = "Here is your internship list!";
+    public static final String LIST_PAGE_MESSAGE = "Page %d of %d, showing internships %d to %d of %d.";
     public static final String DESC_MESSAGE_SUCCESS = "Here is your internship description!";
     public static final String LOADING_DATA_FIRST_TIME = "Your internship list is set up and ready to go! Note you have"
                                                         + " no data currently saved. Feel free to explore!";
@@ -52,7 +53,16 @@ public class InternSprintMessages {
     public static final String NO_INTERNSHIPS_FOUND = "No internships found";
     public static final String NO_INTERVIEWS_SCHEDULED = "You have no interviews Scheduled";
     public static final String NUMBER_OF_INTERNSHIPS_FOUND = "Number of internships found: %d";
+    public static final String SEARCH_RESULTS_FOUND = "Top %d internships matching your search, best match first:";
     public static final String ADD_INTERVIEW_MESSAGE_SUCCESS = "New interview added\n%s";
+    public static final String INTERVIEW_CLASH_WARNING = "Note: this interview overlaps with these interviews:";
+    public static final String CLASHES_FOUND = "Number of overlapping pairs of interviews: %d";
+    public static final String NO_CLASHES_FOUND = "None of your interviews overlap.";
+    public static final String FREE_SLOTS_FOUND = "Here are your free time slots of at least %d minutes:";
+    public static final String NO_FREE_SLOTS_FOUND = "You have no free time slots of at least %d minutes in that "
+            + "range.";
+    public static final String STATS_MESSAGE = "Time spent on each operation this session, most time first:";
+    public static final String NO_STATS_RECORDED = "Nothing has been timed yet this session.";
     public static final String SORT_INTERVIEWS_MESSAGE_SUCCESS = "Here are your interviews sorted by date and time.";
     public static final String SAVING_PROFILE_SUCCESS = "Successfully saved user profile to file %s";
     public static final String LOADING_PROFILE_SUCCESS = "Successfully loaded user profile from file";
@@ -0,0 +1,93 @@
+package seedu.internsprint.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets whose width grows with the size of the latency, so that any percentile can be
+ * read back to within about 3% while the histogram stays a fixed size.
+ * <p>
+ * Latencies below 64 each have their own bucket. Every power of two above that is split into 32 buckets of
+ * equal width. Recording only increments counters, so any number of threads can record at once without a lock.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency. Negative latencies are recorded as zero.
+     *
+     * @param value Latency, in any unit as long as every value recorded uses the same one.
+     */
+    public void record(long value) {
+        long latency = Math.max(value, 0);
+        bucketCounts.incrementAndGet(getBucketIndex(latency));
+        count.incrementAndGet();
+        total.addAndGet(latency);
+        max.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency that the given fraction of recorded latencies are at or below.
+     * The result is the upper end of the bucket that the percentile falls in, but never more than the maximum.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return Latency at the percentile, or 0 if nothing has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile should be between 0 and 100";
+        long recordedCount = getCount();
+        if (recordedCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recordedCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += bucketCounts.get(i);
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long getBucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        return subBucket == 2 * SUB_BUCKET_COUNT - 1 && exponent == Long.SIZE - 2
+                ? Long.MAX_VALUE
+                : ((subBucket + 1) << shift) - 1;
+    }
+}
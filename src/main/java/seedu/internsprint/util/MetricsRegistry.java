@@ -0,0 +1,191 @@
+package seedu.internsprint.util;
+
+import org.json.JSONObject;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Records how long each kind of operation takes, such as executing a command or saving a file.
+ * <p>
+ * For every operation, the registry keeps a histogram of latencies in nanoseconds, the number of bytes
+ * written or read, and the number of bytes allocated by the thread that ran it. Recording never takes a
+ * lock, so operations on other threads can record at the same time.
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry registry = new MetricsRegistry();
+    private static final ThreadMXBean threadBean = getThreadBean();
+
+    private final ConcurrentHashMap<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getInstance() {
+        return registry;
+    }
+
+    /**
+     * Starts timing an operation on the current thread.
+     *
+     * @return Sample to be stopped once the operation is done.
+     */
+    public Sample start() {
+        return new Sample(System.nanoTime(), getAllocatedBytes());
+    }
+
+    /**
+     * Returns the metric of the named operation, creating it if nothing has been recorded for it yet.
+     *
+     * @param name Name of the operation.
+     * @return Metric of the operation.
+     */
+    public Metric getMetric(String name) {
+        return metrics.computeIfAbsent(name, Metric::new);
+    }
+
+    /**
+     * Returns the metrics of every operation recorded, the one that took the most time in total first.
+     *
+     * @return Metrics of the operations.
+     */
+    public List<Metric> getMetrics() {
+        List<Metric> sortedMetrics = new ArrayList<>(metrics.values());
+        sortedMetrics.sort(Comparator.comparingLong((Metric metric) -> metric.getLatencies().getTotal()).reversed()
+                .thenComparing(Metric::getName));
+        return sortedMetrics;
+    }
+
+    /**
+     * Forgets everything recorded so far.
+     */
+    public void clear() {
+        metrics.clear();
+    }
+
+    /**
+     * Returns every metric as a JSON object, keyed by the name of its operation.
+     *
+     * @return JSON object of the metrics.
+     */
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        for (Metric metric : getMetrics()) {
+            json.put(metric.getName(), metric.toJson());
+        }
+        return json;
+    }
+
+    /**
+     * Writes every metric to the file as JSON.
+     *
+     * @param path Path of the file, which is replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeTo(Path path) throws IOException {
+        try (FileWriter writer = new FileWriter(path.toFile())) {
+            writer.write(toJson().toString(4));
+        }
+    }
+
+    private static ThreadMXBean getThreadBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+            return bean != null && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()
+                    ? bean
+                    : null;
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Measurements of one kind of operation.
+     */
+    public static class Metric {
+        private final String name;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder bytesTransferred = new LongAdder();
+        private final LongAdder bytesAllocated = new LongAdder();
+
+        private Metric(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        public long getBytesTransferred() {
+            return bytesTransferred.sum();
+        }
+
+        public long getBytesAllocated() {
+            return bytesAllocated.sum();
+        }
+
+        private JSONObject toJson() {
+            JSONObject json = new JSONObject();
+            json.put("count", latencies.getCount());
+            json.put("totalNanos", latencies.getTotal());
+            json.put("p50Nanos", latencies.getPercentile(50));
+            json.put("p99Nanos", latencies.getPercentile(99));
+            json.put("maxNanos", latencies.getMax());
+            json.put("bytesTransferred", getBytesTransferred());
+            json.put("bytesAllocated", getBytesAllocated());
+            return json;
+        }
+    }
+
+    /**
+     * An operation that is being timed.
+     */
+    public class Sample {
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        private Sample(long startNanos, long startAllocatedBytes) {
+            this.startNanos = startNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        /**
+         * Records the time taken and the memory allocated since the sample was started.
+         *
+         * @param name Name of the operation.
+         */
+        public void stop(String name) {
+            stop(name, 0);
+        }
+
+        /**
+         * Records the time taken and the memory allocated since the sample was started, together with the
+         * number of bytes the operation wrote or read.
+         *
+         * @param name Name of the operation.
+         * @param bytes Number of bytes written or read.
+         */
+        public void stop(String name, long bytes) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+            Metric metric = getMetric(name);
+            metric.latencies.record(elapsedNanos);
+            metric.bytesTransferred.add(bytes);
+            metric.bytesAllocated.add(Math.max(allocatedBytes, 0));
+        }
+    }
+}
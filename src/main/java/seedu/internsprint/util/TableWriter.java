@@ -0,0 +1,215 @@
+package seedu.internsprint.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes a table with box-drawing borders one line at a time, as each row is added.
+ * <p>
+ * Every column has a fixed width, so no row has to be measured before another is written. Text that is
+ * longer than its column is wrapped at spaces, and words longer than the column are broken up. Every
+ * wrapped line except the last line of a cell is justified to fill the column, with any spaces that do
+ * not divide evenly going to the gaps on the right. A rule only becomes the top, middle or bottom border
+ * once it is known what follows it, so it is written with the next row or when the table is finished.
+ */
+public class TableWriter {
+    private static final int DEFAULT_TABLE_WIDTH = 80;
+    private static final char VERTICAL = '\u2502';
+    private static final char HORIZONTAL = '\u2500';
+    private static final char[] TOP_RULE = {'\u250C', '\u252C', '\u2510'};
+    private static final char[] MIDDLE_RULE = {'\u251C', '\u253C', '\u2524'};
+    private static final char[] BOTTOM_RULE = {'\u2514', '\u2534', '\u2518'};
+
+    private final Consumer<String> lineConsumer;
+    private final int[] columnWidths;
+    private final StringBuilder line = new StringBuilder();
+    private boolean hasWrittenLine = false;
+    private boolean hasPendingRule = false;
+
+    /**
+     * Creates a table that passes each line it writes to the given consumer.
+     *
+     * @param lineConsumer Consumer of the lines of the table, without line separators.
+     * @param columnWidths Width of each column, not counting the borders.
+     */
+    public TableWriter(Consumer<String> lineConsumer, int... columnWidths) {
+        assert columnWidths.length > 0 : "A table should have at least one column";
+        this.lineConsumer = lineConsumer;
+        this.columnWidths = columnWidths.clone();
+    }
+
+    /**
+     * Creates a table 80 characters wide, borders included, whose width is shared evenly between its columns.
+     * Any width left over is given to the leftmost columns.
+     *
+     * @param lineConsumer Consumer of the lines of the table, without line separators.
+     * @param columnCount Number of columns.
+     * @return Table with the computed column widths.
+     */
+    public static TableWriter withEvenWidths(Consumer<String> lineConsumer, int columnCount) {
+        int contentWidth = DEFAULT_TABLE_WIDTH - columnCount - 1;
+        int[] columnWidths = new int[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnWidths[i] = contentWidth / columnCount + (i < contentWidth % columnCount ? 1 : 0);
+        }
+        return new TableWriter(lineConsumer, columnWidths);
+    }
+
+    /**
+     * Adds a horizontal rule. It is written once the next row is added or the table is finished.
+     */
+    public void addRule() {
+        hasPendingRule = true;
+    }
+
+    /**
+     * Writes a row, wrapping the text of each cell to fit its column.
+     *
+     * @param cells Content of each cell, one for every column, shown as its string form.
+     */
+    public void addRow(Object... cells) {
+        assert cells.length == columnWidths.length : "A row should have one cell for every column";
+        writePendingRule(hasWrittenLine ? MIDDLE_RULE : TOP_RULE);
+
+        List<List<String>> wrappedCells = new ArrayList<>(cells.length);
+        int rowHeight = 1;
+        for (int i = 0; i < cells.length; i++) {
+            List<String> wrappedCell = wrap(String.valueOf(cells[i]), columnWidths[i]);
+            wrappedCells.add(wrappedCell);
+            rowHeight = Math.max(rowHeight, wrappedCell.size());
+        }
+
+        for (int lineIndex = 0; lineIndex < rowHeight; lineIndex++) {
+            line.setLength(0);
+            line.append(VERTICAL);
+            for (int i = 0; i < cells.length; i++) {
+                List<String> wrappedCell = wrappedCells.get(i);
+                if (lineIndex < wrappedCell.size() - 1) {
+                    appendJustified(wrappedCell.get(lineIndex), columnWidths[i]);
+                } else if (lineIndex == wrappedCell.size() - 1) {
+                    appendPadded(wrappedCell.get(lineIndex), columnWidths[i]);
+                } else {
+                    appendPadded("", columnWidths[i]);
+                }
+                line.append(VERTICAL);
+            }
+            writeLine();
+        }
+    }
+
+    /**
+     * Writes the rule that closes the table, if one was added after the last row.
+     */
+    public void finish() {
+        writePendingRule(BOTTOM_RULE);
+    }
+
+    private void writePendingRule(char[] corners) {
+        if (!hasPendingRule) {
+            return;
+        }
+        hasPendingRule = false;
+        line.setLength(0);
+        line.append(corners[0]);
+        for (int i = 0; i < columnWidths.length; i++) {
+            if (i > 0) {
+                line.append(corners[1]);
+            }
+            for (int j = 0; j < columnWidths[i]; j++) {
+                line.append(HORIZONTAL);
+            }
+        }
+        line.append(corners[2]);
+        writeLine();
+    }
+
+    private void writeLine() {
+        lineConsumer.accept(line.toString());
+        hasWrittenLine = true;
+    }
+
+    private void appendPadded(String text, int width) {
+        line.append(text);
+        for (int i = text.length(); i < width; i++) {
+            line.append(' ');
+        }
+    }
+
+    /**
+     * Appends a line of words, widening the gaps between them so that the line fills the width.
+     * Spaces that cannot be shared evenly between the gaps go to the rightmost gaps.
+     */
+    private void appendJustified(String text, int width) {
+        int gapCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ' ') {
+                gapCount++;
+            }
+        }
+        if (gapCount == 0) {
+            appendPadded(text, width);
+            return;
+        }
+
+        int extraSpaces = width - text.length();
+        int gapIndex = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            line.append(c);
+            if (c != ' ') {
+                continue;
+            }
+            int spaces = extraSpaces / gapCount + (gapIndex >= gapCount - extraSpaces % gapCount ? 1 : 0);
+            for (int j = 0; j < spaces; j++) {
+                line.append(' ');
+            }
+            gapIndex++;
+        }
+    }
+
+    /**
+     * Splits the text into lines no longer than the width, breaking at spaces where possible.
+     * Runs of whitespace in the text are treated as a single space.
+     *
+     * @param text Text of the cell.
+     * @param width Width of the column.
+     * @return Lines of the cell, with at least one line.
+     */
+    private static List<String> wrap(String text, int width) {
+        String words = String.join(" ", text.trim().split("\\s+"));
+        List<String> lines = new ArrayList<>();
+        int offset = 0;
+        while (true) {
+            if (offset < words.length() && words.charAt(offset) == ' ') {
+                offset++;
+            }
+            if (words.length() - offset <= width) {
+                break;
+            }
+            int lineEnd = words.lastIndexOf(' ', offset + width);
+            if (lineEnd > offset) {
+                lines.add(words.substring(offset, lineEnd));
+                offset = lineEnd + 1;
+            } else {
+                lines.add(words.substring(offset, offset + width));
+                offset += width;
+            }
+        }
+        lines.add(words.substring(offset));
+        return lines;
+    }
+
+    /**
+     * A table that is only written out once there is somewhere to write its lines to.
+     */
+    @FunctionalInterface
+    public interface Table {
+        /**
+         * Writes the table one line at a time.
+         *
+         * @param lineConsumer Consumer of the lines of the table, without line separators.
+         */
+        void writeTo(Consumer<String> lineConsumer);
+    }
+}
@@ -3,6 +3,13 @@ package seedu.internsprint.util;
 import seedu.internsprint.logic.command.CommandResult;
 import seedu.internsprint.model.internship.Internship;
 
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Scanner;
 
@@ -13,6 +20,8 @@ import static seedu.internsprint.util.InternSprintMessages.WELCOME_MESSAGE;
  * Handles the user interface of the application.
  * <p>
  * This class is responsible for displaying messages to the user and getting input from the user.
+ * Everything displayed is written into one large buffer, which is written out once at the end of each
+ * message, or only when the program exits if output is buffered.
  */
 public class Ui {
     private static final int DASH_LINE_WIDTH = 120;
@@ -20,15 +29,21 @@ public class Ui {
     private static final Scanner scanner = new Scanner(System.in);
 
     private static final String ERROR_PREFIX = "[ERROR] ";
+    private static final String INDENT = "    ";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    private static PrintWriter out = createWriter(System.out);
+    private static boolean isOutputBuffered = false;
 
     /**
      * The welcome message to be displayed to the user.
      */
     public static void showWelcomeMessage() {
-        System.out.println(DIVIDER);
-        System.out.println(LOGO);
-        System.out.println(WELCOME_MESSAGE);
-        System.out.println(DIVIDER);
+        out.println(DIVIDER);
+        out.println(LOGO);
+        out.println(WELCOME_MESSAGE);
+        out.println(DIVIDER);
+        flushUnlessBuffered();
     }
 
     /**
@@ -37,9 +52,12 @@ public class Ui {
      * @param message The message to be displayed.
      */
     public static void showError(String message) {
-        System.out.println(DIVIDER);
-        System.out.println("    " + ERROR_PREFIX + message);
-        System.out.println(DIVIDER);
+        out.println(DIVIDER);
+        out.print(INDENT);
+        out.print(ERROR_PREFIX);
+        out.println(message);
+        out.println(DIVIDER);
+        flushUnlessBuffered();
     }
 
     /**
@@ -48,32 +66,43 @@ public class Ui {
      * @param messages The list of messages to be displayed.
      */
     public static void showError(List<String> messages) {
-        System.out.println("    " + ERROR_PREFIX + messages.get(0));
+        out.print(INDENT);
+        out.print(ERROR_PREFIX);
+        out.println(messages.get(0));
         for (int i = 1; i < messages.size(); i++) {
-            System.out.println("    " + messages.get(i));
+            printIndentedLine(messages.get(i));
         }
+        flushUnlessBuffered();
     }
 
     /**
      * Displays the result of a command to the user.
+     * Each line of feedback is written straight into the output buffer, so a long list of feedback is never
+     * joined into one string. A table in the result is written into the buffer row by row in the same way,
+     * after a blank line and without indentation.
      *
      * @param result The result of the command to be displayed.
      */
     public static void showResultToUser(CommandResult result) {
         if (result.isSuccessful()) {
-            System.out.println(DIVIDER);
+            out.println(DIVIDER);
             for (String feedback : result.getFeedbackToUser()) {
-                System.out.println("    " + feedback);
+                printIndentedLine(feedback);
+            }
+            if (result.getTable() != null) {
+                printIndentedLine("");
+                result.getTable().writeTo(out::println);
             }
             if (result.getRelevantInternships() != null) {
                 showRelevantInternshipsToUser(result.getRelevantInternships());
             }
-            System.out.println(DIVIDER);
+            out.println(DIVIDER);
         } else {
-            System.out.println(DIVIDER);
+            out.println(DIVIDER);
             showError(result.getFeedbackToUser());
-            System.out.println(DIVIDER);
+            out.println(DIVIDER);
         }
+        flushUnlessBuffered();
     }
 
     /**
@@ -82,10 +111,39 @@ public class Ui {
      * @param relevantInternships The list of relevant internships to be displayed.
      */
     public static void showRelevantInternshipsToUser(List<Internship> relevantInternships) {
-        System.out.println("    Here is the list of relevant internships:");
+        printIndentedLine("Here is the list of relevant internships:");
         for (int i = 0; i < relevantInternships.size(); i++) {
-            System.out.println("    " + (i + 1) + ". " + relevantInternships.get(i));
+            out.print(INDENT);
+            out.print(i + 1);
+            out.print(". ");
+            out.println(relevantInternships.get(i));
         }
+        flushUnlessBuffered();
+    }
+
+    /**
+     * Displays an empty line, to separate the output of one command from the next.
+     */
+    public static void showBlankLine() {
+        out.println();
+        flushUnlessBuffered();
+    }
+
+    /**
+     * Buffers everything displayed from now on, so that it is written out in large blocks instead of once per
+     * message. The output must be flushed with {@link #flushOutput()} before the program exits.
+     */
+    public static void useBufferedOutput() {
+        out.flush();
+        out = createWriter(new FileOutputStream(FileDescriptor.out));
+        isOutputBuffered = true;
+    }
+
+    /**
+     * Writes out everything that has been displayed but not written yet.
+     */
+    public static void flushOutput() {
+        out.flush();
     }
 
     /**
@@ -94,11 +152,35 @@ public class Ui {
      * @return The user input as a string.
      */
     public static String getUserCommand() {
-        System.out.print("> ");
+        out.print("> ");
+        out.flush();
         String input = scanner.nextLine();
         while (input.trim().isEmpty()) {
             input = scanner.nextLine();
         }
         return input;
     }
+
+    private static void printIndentedLine(String line) {
+        out.print(INDENT);
+        out.println(line);
+    }
+
+    private static void flushUnlessBuffered() {
+        if (!isOutputBuffered) {
+            out.flush();
+        }
+    }
+
+    /**
+     * Creates a writer over the given stream, using the same encoding as the standard output stream.
+     *
+     * @param stream Stream to write to.
+     * @return Writer with a large buffer that is only flushed when asked to.
+     */
+    private static PrintWriter createWriter(OutputStream stream) {
+        String encoding = System.getProperty("sun.stdout.encoding");
+        Charset charset = encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(stream, charset), OUTPUT_BUFFER_SIZE), false);
+    }
 }
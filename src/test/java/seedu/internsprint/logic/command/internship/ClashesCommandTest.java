@@ -0,0 +1,94 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.internship.interview.InterviewClash;
+import seedu.internsprint.model.internship.interview.InterviewEntry;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintMessages.CLASHES_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.NO_CLASHES_FOUND;
+
+class ClashesCommandTest {
+    private SoftwareInternship internship1;
+    private HardwareInternship internship2;
+    private InternshipList internshipList;
+    private UserProfile userProfile;
+
+    @BeforeEach
+    void setUp() throws DuplicateEntryException {
+        internship1 = new SoftwareInternship("Facebook", "software Intern", "C++");
+        internship2 = new HardwareInternship("Accenture", "hardware Intern", "baremetal");
+        internshipList = new InternshipList();
+        userProfile = new UserProfile();
+        internshipList.addInternship(internship1);
+        internshipList.addInternship(internship2);
+    }
+
+    @Test
+    void isValidParameters_provideExtraParameter_returnsFalse() {
+        ClashesCommand command = new ClashesCommand();
+        HashMap<String, String> parameters = command.getParameters();
+        parameters.put("/from", "2025-04-12");
+        command.setParameters(parameters);
+        assertFalse(command.isValidParameters());
+    }
+
+    @Test
+    void execute_noOverlappingInterviews_returnsNoClashes() throws DuplicateEntryException {
+        internshipList.addInterview(internship1, new Interview("2025-04-12", "10:00", "11:00", "HR"));
+        internshipList.addInterview(internship2, new Interview("2025-04-12", "11:00", "12:00", "Technical"));
+        internshipList.addInterview(internship2, new Interview("2025-04-13", "10:30", "11:30", "Managerial"));
+
+        CommandResult result = new ClashesCommand().execute(internshipList, userProfile);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(NO_CLASHES_FOUND), result.getFeedbackToUser());
+    }
+
+    @Test
+    void execute_overlappingInterviews_listsEveryPair() throws DuplicateEntryException {
+        internshipList.addInterview(internship1, new Interview("2025-04-12", "09:00", "12:00", "HR"));
+        internshipList.addInterview(internship2, new Interview("2025-04-12", "10:00", "10:30", "Technical"));
+        internshipList.addInterview(internship2, new Interview("2025-04-12", "11:30", "13:00", "Managerial"));
+
+        List<InterviewClash> clashes = internshipList.getInterviewTimeline().getClashes();
+        assertEquals(2, clashes.size());
+        assertSame(internship1, clashes.get(0).getEarlierEntry().getInternship());
+        assertEquals("Technical", clashes.get(0).getLaterEntry().getInterview().getInterviewType());
+        assertEquals("Managerial", clashes.get(1).getLaterEntry().getInterview().getInterviewType());
+
+        CommandResult result = new ClashesCommand().execute(internshipList, userProfile);
+        assertTrue(result.isSuccessful());
+        assertEquals(String.format(CLASHES_FOUND, 2), result.getFeedbackToUser().get(0));
+    }
+
+    @Test
+    void getOverlappingInterviews_longRoundStartingEarlier_isFound() throws DuplicateEntryException {
+        internshipList.addInterview(internship1, new Interview("2025-04-12", "08:00", "12:00", "HR"));
+        internshipList.addInterview(internship2, new Interview("2025-04-12", "10:00", "10:30", "Technical"));
+
+        List<InterviewEntry> overlapping = internshipList.getInterviewTimeline().getOverlappingInterviews(
+                LocalDate.of(2025, 4, 12), LocalTime.of(11, 0), LocalTime.of(11, 30));
+        assertEquals(1, overlapping.size());
+        assertSame(internship1, overlapping.get(0).getInternship());
+
+        assertTrue(internshipList.getInterviewTimeline().getOverlappingInterviews(
+                LocalDate.of(2025, 4, 12), LocalTime.of(12, 0), LocalTime.of(13, 0)).isEmpty());
+    }
+}
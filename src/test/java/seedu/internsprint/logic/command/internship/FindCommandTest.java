@@ -120,4 +120,28 @@ class FindCommandTest {
         assertFalse(result.isSuccessful());
         assertEquals(INVALID_CATEGORY_ERROR, result.getFeedbackToUser().get(0));
     }
+
+    @Test
+    void execute_provideShortAndLongSubstrings_returnsMatchingInternships() {
+        FindCommand findCommand = new FindCommand();
+        findCommand.getParameters().put("/c", "OO");
+        findCommand.getParameters().put("/r", "ware intern");
+        CommandResult result = findCommand.execute(internshipList, new UserProfile());
+        assertTrue(result.isSuccessful());
+        assertEquals(String.format(NUMBER_OF_INTERNSHIPS_FOUND, 2), result.getFeedbackToUser().get(0));
+
+        FindCommand noMatchCommand = new FindCommand();
+        noMatchCommand.getParameters().put("/r", "software intern x");
+        assertEquals(NO_INTERNSHIPS_FOUND,
+            noMatchCommand.execute(internshipList, new UserProfile()).getFeedbackToUser().get(0));
+    }
+
+    @Test
+    void execute_afterDeletingInternship_doesNotReturnDeletedInternship() {
+        internshipList.deleteInternship("software", 0);
+        FindCommand findCommand = new FindCommand();
+        findCommand.getParameters().put("/c", "facebook");
+        CommandResult result = findCommand.execute(internshipList, new UserProfile());
+        assertEquals(NO_INTERNSHIPS_FOUND, result.getFeedbackToUser().get(0));
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.HardwareInternship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.FreeTimeSlot;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.FREE_SLOTS_INVALID_HOURS;
+import static seedu.internsprint.util.InternSprintMessages.FREE_SLOTS_FOUND;
+
+class FreeSlotsCommandTest {
+    private InternshipList internshipList;
+    private UserProfile userProfile;
+
+    @BeforeEach
+    void setUp() throws DuplicateEntryException {
+        SoftwareInternship internship1 = new SoftwareInternship("Facebook", "software Intern", "C++");
+        HardwareInternship internship2 = new HardwareInternship("Accenture", "hardware Intern", "baremetal");
+        internshipList = new InternshipList();
+        userProfile = new UserProfile();
+        internshipList.addInternship(internship1);
+        internshipList.addInternship(internship2);
+        internshipList.addInterview(internship1, new Interview("2025-04-14", "09:30", "11:00", "HR"));
+        internshipList.addInterview(internship1, new Interview("2025-04-14", "14:00", "15:00", "Technical"));
+        internshipList.addInterview(internship2, new Interview("2025-04-14", "10:00", "12:00", "Coding"));
+    }
+
+    @Test
+    void isValidParameters_provideNonPositiveLength_returnsFalse() {
+        FreeSlotsCommand command = new FreeSlotsCommand();
+        HashMap<String, String> parameters = command.getParameters();
+        parameters.put("/from", "2025-04-14");
+        parameters.put("/to", "2025-04-15");
+        parameters.put("/length", "0");
+        command.setParameters(parameters);
+        assertFalse(command.isValidParameters());
+    }
+
+    @Test
+    void getFreeTimeSlots_overlappingInterviews_mergesBeforeFindingGaps() {
+        List<FreeTimeSlot> freeTimeSlots = internshipList.getInterviewTimeline().getFreeTimeSlots(
+                LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 15), LocalTime.of(9, 0), LocalTime.of(18, 0),
+                Duration.ofMinutes(30));
+
+        assertEquals(4, freeTimeSlots.size());
+        assertEquals(LocalTime.of(9, 0), freeTimeSlots.get(0).getStartTime());
+        assertEquals(LocalTime.of(9, 30), freeTimeSlots.get(0).getEndTime());
+        assertEquals(LocalTime.of(12, 0), freeTimeSlots.get(1).getStartTime());
+        assertEquals(LocalTime.of(14, 0), freeTimeSlots.get(1).getEndTime());
+        assertEquals(LocalTime.of(15, 0), freeTimeSlots.get(2).getStartTime());
+        assertEquals(LocalDate.of(2025, 4, 15), freeTimeSlots.get(3).getDate());
+        assertEquals(540, freeTimeSlots.get(3).getLengthInMinutes());
+    }
+
+    @Test
+    void execute_provideLongLength_skipsShortGaps() {
+        FreeSlotsCommand command = new FreeSlotsCommand();
+        HashMap<String, String> parameters = command.getParameters();
+        parameters.put("/from", "2025-04-14");
+        parameters.put("/to", "2025-04-14");
+        parameters.put("/length", "150");
+        command.setParameters(parameters);
+
+        CommandResult result = command.execute(internshipList, userProfile);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(String.format(FREE_SLOTS_FOUND, 150), "1. 2025-04-14, 15:00 to 18:00 (180 minutes)"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    void execute_provideStartAfterEnd_returnsFailure() {
+        FreeSlotsCommand command = new FreeSlotsCommand();
+        HashMap<String, String> parameters = command.getParameters();
+        parameters.put("/from", "2025-04-14");
+        parameters.put("/to", "2025-04-14");
+        parameters.put("/length", "30");
+        parameters.put("/start", "18:00");
+        parameters.put("/end", "09:00");
+        command.setParameters(parameters);
+
+        CommandResult result = command.execute(internshipList, userProfile);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(FREE_SLOTS_INVALID_HOURS, result.getFeedbackToUser().get(0));
+    }
+}
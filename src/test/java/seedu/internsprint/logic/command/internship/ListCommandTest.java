@@ -16,7 +16,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.LIST_INVALID_PAGE;
 import static seedu.internsprint.util.InternSprintMessages.LIST_MESSAGE_SUCCESS;
+import static seedu.internsprint.util.InternSprintMessages.LIST_PAGE_MESSAGE;
 
 public class ListCommandTest {
     private SoftwareInternship internship1;
@@ -84,4 +86,39 @@ public class ListCommandTest {
         assertEquals(5, feedback.size());
         assertEquals(LIST_MESSAGE_SUCCESS, feedback.get(0));
     }
+
+    @Test
+    void execute_provideSecondPage_returnsOnlyInternshipsOnPage() {
+        ListCommand listcommand = new ListCommand();
+        InternshipList internshipList = new InternshipList();
+        assertDoesNotThrow(() -> internshipList.addInternship(internship1));
+        assertDoesNotThrow(() -> internshipList.addInternship(internship2));
+        assertDoesNotThrow(() -> internshipList.addInternship(internship3));
+        HashMap<String, String> parameters = listcommand.getParameters();
+        parameters.put("/page", "2");
+        parameters.put("/size", "2");
+        listcommand.setParameters(parameters);
+
+        CommandResult result = listcommand.execute(internshipList, userProfile);
+        List<String> feedback = result.getFeedbackToUser();
+
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(LIST_MESSAGE_SUCCESS, String.format(LIST_PAGE_MESSAGE, 2, 2, 3, 3, 3),
+                "Hardware Internships:", "  3. " + internship3), feedback);
+    }
+
+    @Test
+    void execute_providePagePastEnd_returnsFailure() {
+        ListCommand listcommand = new ListCommand();
+        InternshipList internshipList = new InternshipList();
+        assertDoesNotThrow(() -> internshipList.addInternship(internship1));
+        HashMap<String, String> parameters = listcommand.getParameters();
+        parameters.put("/page", "2");
+        listcommand.setParameters(parameters);
+
+        CommandResult result = listcommand.execute(internshipList, userProfile);
+
+        assertFalse(result.isSuccessful());
+        assertEquals(List.of(String.format(LIST_INVALID_PAGE, 2, 1)), result.getFeedbackToUser());
+    }
 }
@@ -0,0 +1,95 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.userprofile.UserProfile;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintExceptionMessages.SEARCH_INVALID_PARAMS;
+import static seedu.internsprint.util.InternSprintMessages.NO_INTERNSHIPS_FOUND;
+import static seedu.internsprint.util.InternSprintMessages.SEARCH_RESULTS_FOUND;
+
+class SearchCommandTest {
+
+    private InternshipList internshipList;
+    private Internship machineLearningInternship;
+    private Internship backendInternship;
+
+    @BeforeEach
+    void setUp() {
+        machineLearningInternship = new SoftwareInternship("Google", "ML Intern", "Python", null,
+            "Train machine learning models in Python", null, "Machine learning experience");
+        backendInternship = new SoftwareInternship("Shopee", "Backend Intern", "Java", null,
+            "Build backend services in Java with some Python scripting", null, null);
+        Internship hrInternship = new GeneralInternship("Grab", "HR Intern", "HR", null,
+            "Support recruitment events", null, null);
+        internshipList = new InternshipList();
+        assertDoesNotThrow(() -> internshipList.addInternship(machineLearningInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(backendInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(hrInternship));
+    }
+
+    @Test
+    void execute_provideMatchingWords_returnsBestMatchFirst() {
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.getParameters().put("description", "machine learning python");
+        CommandResult result = searchCommand.execute(internshipList, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(String.format(SEARCH_RESULTS_FOUND, 2), result.getFeedbackToUser().get(0));
+        assertEquals(machineLearningInternship, result.getRelevantInternships().get(0));
+        assertEquals(backendInternship, result.getRelevantInternships().get(1));
+    }
+
+    @Test
+    void execute_provideTopFlag_limitsNumberOfResults() {
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.getParameters().put("description", "python");
+        searchCommand.getParameters().put("/top", "1");
+        CommandResult result = searchCommand.execute(internshipList, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(1, result.getRelevantInternships().size());
+    }
+
+    @Test
+    void execute_afterDeletingInternship_doesNotReturnDeletedInternship() {
+        internshipList.deleteInternship("general", 0);
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.getParameters().put("description", "recruitment");
+        CommandResult result = searchCommand.execute(internshipList, new UserProfile());
+
+        assertTrue(result.isSuccessful());
+        assertEquals(NO_INTERNSHIPS_FOUND, result.getFeedbackToUser().get(0));
+    }
+
+    @Test
+    void execute_afterEditingInternship_returnsEditedInternship() {
+        backendInternship.setDescription("Build recommendation engines");
+        assertDoesNotThrow(() -> internshipList.updateInternship(backendInternship));
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.getParameters().put("description", "recommendation");
+        CommandResult result = searchCommand.execute(internshipList, new UserProfile());
+
+        assertEquals(backendInternship, result.getRelevantInternships().get(0));
+    }
+
+    @Test
+    void execute_provideInvalidTopFlag_returnsFalse() {
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.getParameters().put("description", "python");
+        searchCommand.getParameters().put("/top", "zero");
+        CommandResult result = searchCommand.execute(internshipList, new UserProfile());
+
+        assertFalse(result.isSuccessful());
+        assertEquals(SEARCH_INVALID_PARAMS, result.getFeedbackToUser().get(0));
+    }
+}
@@ -12,6 +12,7 @@ import seedu.internsprint.model.userprofile.UserProfile;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -90,7 +91,7 @@ class SortInterviewCommandTest {
         UserProfile user = new UserProfile();
         SortInterviewCommand command = new SortInterviewCommand();
         CommandResult result = command.execute(list, user);
-        String feedbackCombined = String.join("\n", result.getFeedbackToUser());
+        String feedbackCombined = toDisplayedText(result);
         assertTrue(feedbackCombined.contains(NO_INTERVIEWS_SCHEDULED));
     }
 
@@ -103,7 +104,7 @@ class SortInterviewCommandTest {
         }
         SortInterviewCommand command = new SortInterviewCommand();
         CommandResult result = command.execute(internshipList, userProfile);
-        String feedbackCombined = String.join("\n", result.getFeedbackToUser());
+        String feedbackCombined = toDisplayedText(result);
         assertTrue(feedbackCombined.contains(SORT_INTERVIEWS_MESSAGE_SUCCESS));
         assertTrue(feedbackCombined.contains("Facebook"));
         assertTrue(feedbackCombined.contains("2025-04-12"));
@@ -124,7 +125,7 @@ class SortInterviewCommandTest {
 
         SortInterviewCommand command = new SortInterviewCommand();
         CommandResult result = command.execute(internshipList, userProfile);
-        String feedbackCombined = String.join("\n", result.getFeedbackToUser());
+        String feedbackCombined = toDisplayedText(result);
 
         int technicalIndex = feedbackCombined.indexOf("Technical");
         int hrIndex = feedbackCombined.indexOf("HR");
@@ -134,4 +135,81 @@ class SortInterviewCommandTest {
         assertTrue(hrIndex < managerIndex, " Expected the HR interview (2025-04-12) to be listed " +
                 "before the Managerial interview (2025-04-13)).");
     }
+
+    @Test
+    void testExecute_dateRange_returnsOnlyInterviewsInRange() {
+        try {
+            internship1.addInterview(interview1);
+            internship2.addInterview(interview2);
+            internship2.addInterview(interview3);
+        } catch (Exception e) {
+            fail("Unexpected exception when adding interview: " + e.getMessage());
+        }
+
+        SortInterviewCommand command = new SortInterviewCommand();
+        command.getParameters().put("/from", "2025-04-13");
+        command.getParameters().put("/to", "2025-04-20");
+        CommandResult result = command.execute(internshipList, userProfile);
+        String feedbackCombined = toDisplayedText(result);
+
+        assertTrue(result.isSuccessful());
+        assertTrue(feedbackCombined.contains("Managerial"));
+        assertFalse(feedbackCombined.contains("Technical"));
+        assertFalse(feedbackCombined.contains("HR"));
+    }
+
+    @Test
+    void testExecute_interviewAddedAfterFirstSort_returnsNewInterviewInOrder() {
+        InternshipList list = new InternshipList();
+        try {
+            list.addInternship(internship1);
+            list.addInterview(internship1, interview1);
+            new SortInterviewCommand().execute(list, userProfile);
+            list.addInterview(internship1, interview2);
+        } catch (Exception e) {
+            fail("Unexpected exception when adding interview: " + e.getMessage());
+        }
+
+        CommandResult result = new SortInterviewCommand().execute(list, userProfile);
+        String feedbackCombined = toDisplayedText(result);
+        assertTrue(feedbackCombined.indexOf("Technical") < feedbackCombined.indexOf("HR"),
+                "Expected the Technical interview added later (08:00) to be listed before the HR interview (10:00).");
+    }
+
+    @Test
+    void testExecute_fromDateAfterToDate_returnsFalse() {
+        SortInterviewCommand command = new SortInterviewCommand();
+        command.getParameters().put("/from", "2025-04-20");
+        command.getParameters().put("/to", "2025-04-13");
+        CommandResult result = command.execute(internshipList, userProfile);
+        assertFalse(result.isSuccessful());
+    }
+
+    @Test
+    void testExecute_oneInterview_writesTableOneLinePerRow() {
+        try {
+            internship1.addInterview(interview1);
+        } catch (Exception e) {
+            fail("Unexpected exception when adding interview: " + e.getMessage());
+        }
+        CommandResult result = new SortInterviewCommand().execute(internshipList, userProfile);
+        List<String> lines = new ArrayList<>();
+        result.getTable().writeTo(lines::add);
+
+        assertEquals(List.of(SORT_INTERVIEWS_MESSAGE_SUCCESS), result.getFeedbackToUser());
+        assertEquals(7, lines.size());
+        assertTrue(lines.get(4).startsWith("\u2502Facebook    \u2502software    \u25022025-04-12  \u2502"));
+        assertTrue(lines.get(5).startsWith("\u2502            \u2502Intern      \u2502"));
+    }
+
+    /**
+     * Returns the feedback of the result followed by the lines of its table, if it has one.
+     */
+    private static String toDisplayedText(CommandResult result) {
+        List<String> lines = new ArrayList<>(result.getFeedbackToUser());
+        if (result.getTable() != null) {
+            result.getTable().writeTo(lines::add);
+        }
+        return String.join("\n", lines);
+    }
 }
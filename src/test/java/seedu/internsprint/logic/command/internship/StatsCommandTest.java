@@ -0,0 +1,64 @@
+package seedu.internsprint.logic.command.internship;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.util.MetricsRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.internsprint.util.InternSprintMessages.NO_STATS_RECORDED;
+import static seedu.internsprint.util.InternSprintMessages.STATS_MESSAGE;
+
+class StatsCommandTest {
+
+    @BeforeEach
+    void setUp() {
+        MetricsRegistry.getInstance().clear();
+    }
+
+    @Test
+    void isValidParameters_provideExtraParameter_returnsFalse() {
+        StatsCommand command = new StatsCommand();
+        HashMap<String, String> parameters = command.getParameters();
+        parameters.put("/c", "Google");
+        command.setParameters(parameters);
+        assertFalse(command.isValidParameters());
+    }
+
+    @Test
+    void execute_nothingRecorded_showsNoStats() {
+        CommandResult result = new StatsCommand().execute(new InternshipList(), new UserProfile());
+        assertTrue(result.isSuccessful());
+        assertEquals(List.of(NO_STATS_RECORDED), result.getFeedbackToUser());
+    }
+
+    @Test
+    void execute_operationsRecorded_showsMostTimeFirst() {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.getMetric("FindCommand").getLatencies().record(1_000_000);
+        registry.getMetric("save internships").getLatencies().record(5_000_000);
+
+        CommandResult result = new StatsCommand().execute(new InternshipList(), new UserProfile());
+        List<String> feedback = result.getFeedbackToUser();
+
+        assertTrue(result.isSuccessful());
+        assertEquals(STATS_MESSAGE, feedback.get(0));
+        assertTrue(feedback.get(4).contains("save internships"));
+        assertTrue(feedback.get(4).contains("5.000"));
+        assertTrue(feedback.get(5).contains("FindCommand"));
+    }
+
+    @Test
+    void formatBytes_provideLargeNumber_returnsLargestUnit() {
+        assertEquals("512 B", StatsCommand.formatBytes(512));
+        assertEquals("1.5 KB", StatsCommand.formatBytes(1536));
+        assertEquals("2.0 MB", StatsCommand.formatBytes(2 * 1024 * 1024));
+    }
+}
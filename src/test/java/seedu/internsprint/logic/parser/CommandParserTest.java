@@ -1,6 +1,7 @@
 package seedu.internsprint.logic.parser;
 
 import seedu.internsprint.logic.command.internship.AddSoftwareInternshipCommand;
+import seedu.internsprint.logic.command.internship.SortInterviewCommand;
 import seedu.internsprint.logic.command.Command;
 import seedu.internsprint.model.internship.InternshipList;
 
@@ -55,6 +56,31 @@ class CommandParserTest {
         assertEquals(AddSoftwareInternshipCommand.class, command.getClass());
     }
 
+    @Test
+    void parseCommand_provideUpperCaseMultiWordCommand_returnsCorrectObject() {
+        Command command = CommandParser.parseCommand("Sort Interviews /from 2025-04-12");
+        assertEquals(SortInterviewCommand.class, command.getClass());
+        assertEquals("2025-04-12", command.getParameters().get("/from"));
+    }
+
+    @Test
+    void parseCommand_provideUpperCaseMultiWordCommand_setsLowerCaseCommandWord() {
+        Command command = CommandParser.parseCommand("Sort Interviews /from 2025-04-12");
+        assertEquals("sort interviews", command.getCommandWord());
+    }
+
+    @Test
+    void splitCommandTypeAndParams_provideExtraSpaceBetweenWords_splitsOnFirstWord() {
+        String[] result = CommandParser.splitCommandTypeAndParams("add  software /key1 value1");
+        assertEquals("add", result[0]);
+        assertEquals("software /key1 value1", result[1]);
+    }
+
+    @Test
+    void parseCommand_providePrefixOfMultiWordCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CommandParser.parseCommand("view"));
+    }
+
     @Test
     void parseCommand_provideIncorrectCommand_throwsIllegalArgumentException() {
         String input = "add invalid /key1 value1";
@@ -125,6 +151,15 @@ class CommandParserTest {
         assertEquals("value1", command.getParameters().get("/key1"));
     }
 
+    @Test
+    void parseKeyValuePairs_flagsWithoutSpaces_returnsCorrectMap() {
+        Command command = new AddSoftwareInternshipCommand();
+        CommandParser.parseKeyValuePairs("description/key1 value1\t /key2 value2 value3", command);
+        assertEquals("description", command.getParameters().get("description"));
+        assertEquals("value1", command.getParameters().get("/key1"));
+        assertEquals("value2 value3", command.getParameters().get("/key2"));
+    }
+
     @Test
     void parseKeyValuePairs_singleKeyWithMissingValue_throwsIllegalArgumentException() {
         Command command = new AddSoftwareInternshipCommand();
@@ -89,4 +89,27 @@ class DateTimeParserTest {
         assertThrows(IllegalArgumentException.class,
             () -> DateTimeParser.parseDateInput("12th of three months later"));
     }
+
+    @Test
+    void parseDateInput_provideNumericDates_returnsCorrectObject() {
+        assertEquals("2021-08-01", DateTimeParser.parseDateInput("2021-8-1").toString());
+        assertEquals("2021-08-01", DateTimeParser.parseDateInput(" 2021/08/01 ").toString());
+        assertEquals("2021-08-01", DateTimeParser.parseDateInput("8/1/2021").toString());
+        assertEquals("2021-12-04", DateTimeParser.parseDateInput("12/04/2021").toString());
+    }
+
+    @Test
+    void parseTimeInput_provideNumericTimes_returnsCorrectObject() {
+        assertEquals("09:05", DateTimeParser.parseTimeInput("9:05").toString());
+        assertEquals("23:59:30", DateTimeParser.parseTimeInput("23:59:30").toString());
+        assertEquals("00:30", DateTimeParser.parseTimeInput("12:30 am").toString());
+        assertEquals("12:00", DateTimeParser.parseTimeInput("12PM").toString());
+        assertEquals("17:30", DateTimeParser.parseTimeInput("5-30pm").toString());
+    }
+
+    @Test
+    void parseDateTimeInput_provideIsoDateTime_returnsCorrectObject() {
+        assertEquals("2021-08-01T09:30", DateTimeParser.parseDateTimeInput("2021-08-01T09:30").toString());
+        assertEquals("2021-08-01T21:30", DateTimeParser.parseDateTimeInput("2021-08-01 9:30 pm").toString());
+    }
 }
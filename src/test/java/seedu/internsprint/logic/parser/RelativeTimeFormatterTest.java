@@ -0,0 +1,40 @@
+package seedu.internsprint.logic.parser;
+
+import org.junit.jupiter.api.Test;
+import org.ocpsoft.prettytime.PrettyTime;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RelativeTimeFormatterTest {
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final Instant NOW = Instant.parse("2025-04-12T10:15:30Z");
+
+    @Test
+    void format_provideSameDateTwice_returnsCachedString() {
+        RelativeTimeFormatter formatter = new RelativeTimeFormatter(Clock.fixed(NOW, ZONE));
+        LocalDate date = LocalDate.of(2025, 4, 20);
+
+        String formattedDate = formatter.format(date);
+
+        assertSame(formattedDate, formatter.format(LocalDate.of(2025, 4, 20)));
+    }
+
+    @Test
+    void format_provideDateTime_formatsRelativeToStartOfMinute() {
+        RelativeTimeFormatter formatter = new RelativeTimeFormatter(Clock.fixed(NOW, ZONE));
+        LocalDateTime dateTime = LocalDateTime.of(2025, 4, 10, 9, 0);
+
+        PrettyTime prettyTime = new PrettyTime(Date.from(Instant.parse("2025-04-12T10:15:00Z")));
+        String expected = prettyTime.format(Date.from(dateTime.atZone(ZONE).toInstant()));
+
+        assertEquals(expected, formatter.format(dateTime));
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.internsprint.model.internship;
 
+import seedu.internsprint.exceptions.DuplicateEntryException;
+import seedu.internsprint.model.internship.interview.Interview;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -10,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class InternshipListTest {
 
@@ -61,4 +66,87 @@ class InternshipListTest {
 
         assertEquals(expectedMap, internshipMap);
     }
+
+    @Test
+    void getPendingChanges_addAndDeleteInternships_recordsChangesInOrder() {
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(softwareInternship));
+        generalInternship.setRole("People Operations");
+        assertDoesNotThrow(() -> internshipList.updateInternship(generalInternship));
+        internshipList.deleteInternship("software", 0);
+
+        assertEquals(4, internshipList.getPendingChanges().size());
+        InternshipChange update = internshipList.getPendingChanges().get(2);
+        assertFalse(update.isDeletion());
+        assertEquals("general", update.getType());
+        assertEquals(0, update.getIndex());
+        assertTrue(internshipList.getPendingChanges().get(3).isDeletion());
+
+        internshipList.clearPendingChanges();
+        assertTrue(internshipList.getPendingChanges().isEmpty());
+    }
+
+    @Test
+    void addInternship_afterDeletingInternship_doesNotReuseId() {
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(softwareInternship));
+        internshipList.deleteInternship("software", 0);
+        assertDoesNotThrow(() -> internshipList.addInternship(hardwareInternship));
+
+        assertEquals(2, hardwareInternship.getInternshipId());
+        assertEquals(hardwareInternship, internshipList.getInternshipById(2));
+        assertNull(internshipList.getInternshipById(1));
+    }
+
+    @Test
+    void addInternship_internshipWithUnusedId_keepsId() {
+        softwareInternship.setInternshipId(7);
+        assertDoesNotThrow(() -> internshipList.addInternship(softwareInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+
+        assertEquals(softwareInternship, internshipList.getInternshipById(7));
+        assertEquals(8, generalInternship.getInternshipId());
+    }
+
+    @Test
+    void updateInternship_editedIntoDuplicate_throwsDuplicateEntryException() {
+        Internship otherGeneralInternship = new GeneralInternship("Shopee", "Human Resource", "HR");
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(otherGeneralInternship));
+
+        otherGeneralInternship.setCompanyName("Google");
+        assertThrows(DuplicateEntryException.class, () -> internshipList.updateInternship(otherGeneralInternship));
+
+        otherGeneralInternship.setCompanyName("Grab");
+        assertDoesNotThrow(() -> internshipList.updateInternship(otherGeneralInternship));
+        assertTrue(internshipList.contains(new GeneralInternship("Grab", "Human Resource", "HR")));
+        assertFalse(internshipList.contains(new GeneralInternship("Shopee", "Human Resource", "HR")));
+    }
+
+    @Test
+    void hasUnsavedInternships_editInternship_recordsOnlyInternships() {
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+        assertDoesNotThrow(() -> internshipList.addInternship(softwareInternship));
+        internshipList.markInternshipsSaved();
+
+        softwareInternship.setRole("Backend Engineering");
+        assertDoesNotThrow(() -> internshipList.updateInternship(softwareInternship));
+        assertTrue(internshipList.hasUnsavedInternships());
+        assertFalse(internshipList.hasUnsavedInterviews());
+    }
+
+    @Test
+    void hasUnsavedInterviews_addInterview_recordsOnlyInterviews() {
+        assertDoesNotThrow(() -> internshipList.addInternship(generalInternship));
+        internshipList.markInternshipsSaved();
+        internshipList.markInterviewsSaved();
+
+        Interview interview = new Interview("2025-07-01", "10:00", "11:00", "Technical");
+        assertDoesNotThrow(() -> internshipList.addInterview(generalInternship, interview));
+        assertTrue(internshipList.hasUnsavedInterviews());
+        assertFalse(internshipList.hasUnsavedInternships());
+
+        internshipList.markInterviewsSaved();
+        assertFalse(internshipList.hasUnsavedInterviews());
+    }
 }
@@ -5,12 +5,19 @@ import seedu.internsprint.exceptions.DuplicateEntryException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -153,4 +160,23 @@ public class InterviewTest {
         Interview interview2 = new Interview("2023-10-02", "10:00", "11:00", "Technical");
         assertFalse(interview1.equals(interview2));
     }
+
+    /**
+     * The expected lines are the interview table that AsciiTable rendered for the user guide.
+     */
+    @Test
+    void toDescription_twoRounds_matchesAsciiTableOutput() throws IOException {
+        Interview interview = new Interview("2025-01-01", "10:00", "14:00", "technical round");
+        assertDoesNotThrow(() -> interview.addInterviewRound(
+                new Interview("2025-01-01", "15:00", "16:00", "f2f round")));
+
+        List<String> expected = new ArrayList<>();
+        expected.add("Interview details:");
+        try (InputStream in = InterviewTest.class.getResourceAsStream("interview-details-table.txt")) {
+            assertNotNull(in, "Missing test resource interview-details-table.txt");
+            expected.addAll(new String(in.readAllBytes(), StandardCharsets.UTF_8).lines()
+                    .collect(Collectors.toList()));
+        }
+        assertEquals(expected, interview.toDescription());
+    }
 }
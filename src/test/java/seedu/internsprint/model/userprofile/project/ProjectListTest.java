@@ -0,0 +1,45 @@
+package seedu.internsprint.model.userprofile.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectListTest {
+
+    private ProjectList projectList;
+
+    @BeforeEach
+    void setUp() {
+        projectList = new ProjectList();
+    }
+
+    @Test
+    void contains_projectEditedAfterAdding_matchesFieldsItWasAddedWith() {
+        GeneralProject project = new GeneralProject("Orientation", "Organiser", "Student Life", "Welcome freshmen",
+                "Planned camp activities", "1 month");
+        projectList.addProject(project);
+
+        project.setDepartment("Sports");
+        assertTrue(projectList.contains(new GeneralProject("Orientation", "Organiser", "Student Life",
+                "Welcome freshmen", "Planned camp activities", "1 month")));
+        assertFalse(projectList.contains(project));
+    }
+
+    @Test
+    void contains_languagesEditedAfterAdding_matchesLanguagesItWasAddedWith() {
+        List<String> languages = new ArrayList<>(List.of("Java", "Go"));
+        projectList.addProject(new SoftwareProject("Chatbot", "Lead", languages, "Learn NLP",
+                "Answers questions", "3 months"));
+
+        languages.add("Python");
+        assertTrue(projectList.contains(new SoftwareProject("Chatbot", "Lead", List.of("Java", "Go"), "Learn NLP",
+                "Answers questions", "3 months")));
+        assertFalse(projectList.contains(new SoftwareProject("Chatbot", "Lead", List.of("Java", "Go", "Python"),
+                "Learn NLP", "Answers questions", "3 months")));
+    }
+}
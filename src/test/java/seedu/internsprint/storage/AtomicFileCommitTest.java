@@ -0,0 +1,79 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtomicFileCommitTest {
+
+    private File directory;
+    private File target;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("commit").toFile();
+        target = new File(directory, "data.txt");
+        Files.writeString(target.toPath(), "old");
+    }
+
+    @Test
+    void stage_beforeCommit_writesTempFileOnly() throws IOException {
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            long size = commit.stage(target, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(3, size);
+            assertEquals("new", Files.readString(new File(directory, "data.txt.tmp").toPath()));
+            assertEquals("old", Files.readString(target.toPath()));
+        }
+    }
+
+    @Test
+    void close_withoutCommit_leavesTargetAndDeletesTempFile() throws IOException {
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            commit.stage(target, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        }
+
+        assertEquals("old", Files.readString(target.toPath()));
+        assertEquals(List.of("data.txt"), Arrays.asList(directory.list()));
+    }
+
+    @Test
+    void commit_stagedFiles_replacesEveryTargetAndLeavesNoTempFile() throws IOException {
+        File otherTarget = new File(directory, "other.txt");
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            commit.stage(target, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+            commit.stage(otherTarget, out -> out.write("other".getBytes(StandardCharsets.UTF_8)));
+            commit.commit();
+        }
+
+        assertEquals("new", Files.readString(target.toPath()));
+        assertEquals("other", Files.readString(otherTarget.toPath()));
+        assertEquals(2, directory.list().length);
+    }
+
+    @Test
+    void close_afterWriterFails_leavesTargetAndDeletesTempFile() throws IOException {
+        assertThrows(IOException.class, () -> {
+            try (AtomicFileCommit commit = new AtomicFileCommit()) {
+                commit.stage(target, out -> {
+                    out.write("partial".getBytes(StandardCharsets.UTF_8));
+                    throw new IOException("Disk full");
+                });
+            }
+        });
+
+        assertEquals("old", Files.readString(target.toPath()));
+        assertFalse(new File(directory, "data.txt.tmp").exists());
+        assertEquals(List.of("data.txt"), Arrays.asList(directory.list()));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InternshipJournalHandlerTest {
+
+    private File dataFile;
+    private File journalFile;
+    private File checkpointFile;
+    private InternshipList internships;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        File directory = Files.createTempDirectory("journal").toFile();
+        dataFile = new File(directory, "internships.txt");
+        journalFile = new File(directory, "internships.journal");
+        checkpointFile = new File(directory, "internships.checkpoint");
+        internships = new InternshipList();
+    }
+
+    @Test
+    void load_crashBeforeJournalTruncated_skipsCheckpointedRecords() throws IOException {
+        InternshipJournalHandler journalHandler = journalAddThreeAndDeleteFirst();
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            new InternshipStorageHandler(dataFile).save(internships, StorageFormat.JSON, commit);
+            journalHandler.stageCheckpoint(commit);
+            commit.commit();
+        }
+
+        InternshipList loaded = loadInternships();
+
+        assertTrue(loaded.getPendingChanges().isEmpty());
+        assertCompanies(loaded, "Facebook", "Apple");
+    }
+
+    @Test
+    void load_journalOnDataFilesHoldingItsChanges_replaysDeleteOnce() throws IOException {
+        journalAddThreeAndDeleteFirst();
+        new InternshipStorageHandler(dataFile).save(internships);
+
+        InternshipList loaded = loadInternships();
+
+        assertCompanies(loaded, "Facebook", "Apple");
+    }
+
+    @Test
+    void load_recordsAppendedAfterCheckpoint_replaysThem() throws IOException {
+        InternshipJournalHandler journalHandler = journalAddThreeAndDeleteFirst();
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            new InternshipStorageHandler(dataFile).save(internships, StorageFormat.JSON, commit);
+            journalHandler.stageCheckpoint(commit);
+            commit.commit();
+        }
+        journalHandler.completeCheckpoint();
+        assertEquals(0, journalFile.length());
+
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Amazon", "Logistics", "Ops")));
+        new InternshipJournalHandler(journalFile, checkpointFile).save(internships);
+
+        InternshipList loaded = loadInternships();
+
+        assertCompanies(loaded, "Facebook", "Apple", "Amazon");
+    }
+
+    /**
+     * Adds three internships and deletes the first, appending each change to the journal.
+     */
+    private InternshipJournalHandler journalAddThreeAndDeleteFirst() throws IOException {
+        InternshipJournalHandler journalHandler = new InternshipJournalHandler(journalFile, checkpointFile);
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Google", "Human Resource", "HR")));
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Facebook", "Marketing", "Ads")));
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Apple", "Design", "UX")));
+        journalHandler.save(internships);
+        internships.clearPendingChanges();
+        internships.deleteInternship("general", 0);
+        journalHandler.save(internships);
+        internships.clearPendingChanges();
+        return journalHandler;
+    }
+
+    /**
+     * Loads the data file, then replays the journal on top of it with a new handler, as on startup.
+     */
+    private InternshipList loadInternships() {
+        InternshipList loaded = new InternshipList();
+        assertTrue(new InternshipStorageHandler(dataFile).load(loaded).isSuccessful());
+        loaded.clearPendingChanges();
+        assertTrue(new InternshipJournalHandler(journalFile, checkpointFile).load(loaded).isSuccessful());
+        return loaded;
+    }
+
+    private static void assertCompanies(InternshipList internshipList, String... companyNames) {
+        ArrayList<Internship> generalInternships = internshipList.getInternshipMap().get("general");
+        assertEquals(companyNames.length, generalInternships.size());
+        for (int i = 0; i < companyNames.length; i++) {
+            assertEquals(companyNames[i], generalInternships.get(i).getCompanyName());
+        }
+    }
+}
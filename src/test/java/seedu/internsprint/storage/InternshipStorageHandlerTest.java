@@ -0,0 +1,33 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.InternshipList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InternshipStorageHandlerTest {
+
+    @Test
+    void save_afterCreatingDefaultHandler_writesToGivenFile() throws IOException {
+        File dataFile = new File(Files.createTempDirectory("storage").toFile(), "internships.txt");
+        InternshipStorageHandler storageHandler = new InternshipStorageHandler(dataFile);
+        new InternshipStorageHandler();
+        InternshipList internships = new InternshipList();
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Google", "Human Resource",
+                "HR")));
+
+        storageHandler.save(internships);
+
+        assertTrue(dataFile.length() > 0);
+        InternshipList loaded = new InternshipList();
+        assertTrue(storageHandler.load(loaded).isSuccessful());
+        assertEquals(1, loaded.getInternshipCount());
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.internsprint.storage;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.SoftwareInternship;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+import seedu.internsprint.model.userprofile.project.SoftwareProject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotReaderTest {
+
+    private File directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("snapshot").toFile();
+    }
+
+    @Test
+    void load_jsonToSnapshotToJson_keepsEveryFile() throws IOException {
+        InternshipList internships = new InternshipList();
+        Internship software = new SoftwareInternship("Google", "Software Engineer", "Java, Python");
+        assertDoesNotThrow(() -> internships.addInternship(software));
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Shopee", "HR", "People")));
+        Interview firstRound = new Interview("2025-07-01", "10:00", "11:00", "Technical");
+        firstRound.setInternshipId(software.getInternshipId());
+        assertDoesNotThrow(() -> internships.addInterview(software, firstRound));
+        assertDoesNotThrow(() -> internships.addInterview(software,
+                new Interview("2025-07-08", "14:00", "15:00", "Behavioural", "hr@google.com", "Bring resume")));
+        ProjectList projects = new ProjectList();
+        projects.addProject(new SoftwareProject("Chatbot", "Lead", List.of("Java", "Go"), "Learn NLP",
+                "Answers questions", "3 months"));
+        projects.addProject(new GeneralProject("Orientation", "Organiser", "Student Life", "Welcome freshmen",
+                "Planned camp activities", "1 month"));
+        File jsonDirectory = new File(directory, "json");
+        File snapshotDirectory = new File(directory, "snapshot");
+        File convertedDirectory = new File(directory, "converted");
+        save(jsonDirectory, StorageFormat.JSON, internships, projects);
+
+        InternshipList jsonInternships = loadInternships(jsonDirectory);
+        save(snapshotDirectory, StorageFormat.SNAPSHOT, jsonInternships, loadProjects(jsonDirectory));
+        InternshipList snapshotInternships = loadInternships(snapshotDirectory);
+        save(convertedDirectory, StorageFormat.JSON, snapshotInternships, loadProjects(snapshotDirectory));
+
+        for (String fileName : List.of("internships.txt", "interviews.txt", "projects.txt")) {
+            assertEquals(StorageFormat.SNAPSHOT, StorageFormat.of(new File(snapshotDirectory, fileName)));
+            assertEquals(Files.readString(new File(jsonDirectory, fileName).toPath()),
+                    Files.readString(new File(convertedDirectory, fileName).toPath()));
+        }
+        Interview interview = snapshotInternships.getInternshipMap().get("software").get(0).getInterview();
+        assertEquals(1, interview.getNextRounds().size());
+        assertEquals("Bring resume", interview.getNextRounds().get(0).getNotes());
+    }
+
+    @Test
+    void next_recordWithFlippedChecksum_reportsItAndReadsLaterRecords() throws IOException {
+        File twoRecords = writeSnapshot("two.txt", entry(1), entry(2));
+        File threeRecords = writeSnapshot("three.txt", entry(1), entry(2), entry(3));
+        int recordSize = (int) (threeRecords.length() - twoRecords.length());
+        byte[] bytes = Files.readAllBytes(threeRecords.toPath());
+        bytes[bytes.length - recordSize - 1] ^= 1;
+        Files.write(threeRecords.toPath(), bytes);
+
+        try (EntryReader reader = EntryReader.open(threeRecords)) {
+            assertEquals(1, EntryReader.asJsonObject(reader.next()).getInt("n"));
+            Object corrupted = reader.next();
+            assertTrue(corrupted instanceof SnapshotReader.CorruptedRecord);
+            assertThrows(JSONException.class, () -> EntryReader.asJsonObject(corrupted));
+            assertTrue(corrupted.toString().contains("record 2"));
+            assertEquals(3, EntryReader.asJsonObject(reader.next()).getInt("n"));
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void constructor_unknownVersion_throwsIoException() throws IOException {
+        File file = writeSnapshot("future.txt", entry(1));
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        bytes[SnapshotCodec.MAGIC.length] = (byte) (SnapshotCodec.VERSION + 1);
+        Files.write(file.toPath(), bytes);
+
+        assertEquals(StorageFormat.SNAPSHOT, StorageFormat.of(file));
+        assertThrows(IOException.class, () -> new SnapshotReader(file));
+    }
+
+    @Test
+    void next_decimal_keepsItsPrecision() throws IOException {
+        BigDecimal decimal = new BigDecimal("3.14159265358979323846264338327950288");
+        File file = writeSnapshot("decimal.txt", new JSONObject().put("n", decimal));
+
+        try (EntryReader reader = EntryReader.open(file)) {
+            assertEquals(decimal, EntryReader.asJsonObject(reader.next()).get("n"));
+        }
+    }
+
+    private static JSONObject entry(int number) {
+        return new JSONObject().put("n", number);
+    }
+
+    private File writeSnapshot(String fileName, JSONObject... entries) throws IOException {
+        File file = new File(directory, fileName);
+        try (OutputStream out = new FileOutputStream(file)) {
+            EntryWriter writer = StorageFormat.SNAPSHOT.newWriter(out);
+            for (JSONObject entry : entries) {
+                writer.write(entry);
+            }
+            writer.end();
+        }
+        return file;
+    }
+
+    private static void save(File dataDirectory, StorageFormat format, InternshipList internships,
+            ProjectList projects) throws IOException {
+        try (AtomicFileCommit commit = new AtomicFileCommit()) {
+            new InternshipStorageHandler(new File(dataDirectory, "internships.txt")).save(internships, format, commit);
+            new InterviewStorageHandler(new File(dataDirectory, "interviews.txt")).save(internships, format, commit);
+            new ProjectStorageHandler(new File(dataDirectory, "projects.txt")).save(projects, format, commit);
+            commit.commit();
+        }
+    }
+
+    private static InternshipList loadInternships(File dataDirectory) {
+        InternshipList internships = new InternshipList();
+        assertTrue(new InternshipStorageHandler(new File(dataDirectory, "internships.txt"))
+                .load(internships).isSuccessful());
+        assertTrue(new InterviewStorageHandler(new File(dataDirectory, "interviews.txt"))
+                .load(internships).isSuccessful());
+        return internships;
+    }
+
+    private static ProjectList loadProjects(File dataDirectory) {
+        ProjectList projects = new ProjectList();
+        assertTrue(new ProjectStorageHandler(new File(dataDirectory, "projects.txt")).load(projects).isSuccessful());
+        return projects;
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.internsprint.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.internsprint.logic.command.CommandResult;
+import seedu.internsprint.model.internship.GeneralInternship;
+import seedu.internsprint.model.internship.Internship;
+import seedu.internsprint.model.internship.InternshipList;
+import seedu.internsprint.model.internship.interview.Interview;
+import seedu.internsprint.model.userprofile.UserProfile;
+import seedu.internsprint.model.userprofile.project.GeneralProject;
+import seedu.internsprint.model.userprofile.project.ProjectList;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageManagerTest {
+
+    private static final List<String> CONVERTED_FILE_NAMES =
+            List.of("internships.txt", "interviews.txt", "projects.txt");
+    private static final long WRITE_BEHIND_TIMEOUT_MILLIS = 5000;
+    private static final int LARGE_INTERNSHIP_COUNT = 5000;
+
+    private File dataDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("data").toFile();
+    }
+
+    @Test
+    void load_afterSwitchingFormat_convertsFilesOnNextSave() throws IOException {
+        StorageManager jsonManager = new StorageManager(dataDirectory);
+        InternshipList internships = new InternshipList();
+        Internship internship = new GeneralInternship("Google", "Human Resource", "HR");
+        assertDoesNotThrow(() -> internships.addInternship(internship));
+        Interview interview = new Interview("2025-07-01", "10:00", "11:00", "Technical");
+        interview.setInternshipId(internship.getInternshipId());
+        assertDoesNotThrow(() -> internships.addInterview(internship, interview));
+        ProjectList projects = new ProjectList();
+        projects.addProject(new GeneralProject("Orientation", "Organiser", "Student Life", "Welcome freshmen",
+                "Planned camp activities", "1 month"));
+        jsonManager.checkpointInternshipData(internships);
+        jsonManager.saveProjectData(projects);
+        List<String> jsonContents = readConvertedFiles();
+
+        saveAfterLoading(StorageFormat.SNAPSHOT);
+        for (String fileName : CONVERTED_FILE_NAMES) {
+            assertEquals(StorageFormat.SNAPSHOT, StorageFormat.of(new File(dataDirectory, fileName)));
+        }
+
+        saveAfterLoading(StorageFormat.JSON);
+        assertEquals(jsonContents, readConvertedFiles());
+    }
+
+    @Test
+    void loadAllData_journalWithoutInterviewFile_replaysJournalAfterEveryInternship() throws IOException {
+        InternshipList internships = new InternshipList();
+        for (int i = 0; i < LARGE_INTERNSHIP_COUNT; i++) {
+            int number = i;
+            assertDoesNotThrow(() -> internships.addInternship(
+                    new GeneralInternship("Company " + number, "Role " + number, "Department")));
+        }
+        new InternshipStorageHandler(new File(dataDirectory, "internships.txt")).save(internships);
+        internships.clearPendingChanges();
+        internships.deleteInternship("general", LARGE_INTERNSHIP_COUNT - 1);
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Google", "Human Resource", "HR")));
+        new InternshipJournalHandler(new File(dataDirectory, "internships.journal"),
+                new File(dataDirectory, "internships.checkpoint")).save(internships);
+
+        InternshipList loaded = new InternshipList();
+        List<CommandResult> results = new StorageManager(dataDirectory).loadAllData(loaded, new UserProfile());
+
+        for (CommandResult result : results) {
+            assertTrue(result.isSuccessful());
+        }
+        List<Internship> generalInternships = loaded.getInternshipMap().get("general");
+        assertEquals(LARGE_INTERNSHIP_COUNT, generalInternships.size());
+        assertEquals("Company " + (LARGE_INTERNSHIP_COUNT - 2),
+                generalInternships.get(LARGE_INTERNSHIP_COUNT - 2).getCompanyName());
+        assertEquals("Google", generalInternships.get(LARGE_INTERNSHIP_COUNT - 1).getCompanyName());
+        assertTrue(loaded.getPendingChanges().isEmpty());
+    }
+
+    @Test
+    void commitInternshipChanges_journalReachesCheckpointInterval_rewritesDataFilesAndEmptiesJournal()
+            throws IOException {
+        StorageManager manager = new StorageManager(dataDirectory);
+        manager.setJournalEnabled(true);
+        manager.setJournalCheckpointInterval(2);
+        File journal = new File(dataDirectory, "internships.journal");
+        File internshipFile = new File(dataDirectory, "internships.txt");
+        InternshipList internships = new InternshipList();
+
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Google", "Human Resource", "HR")));
+        manager.commitInternshipChanges(internships);
+        assertTrue(journal.length() > 0);
+        assertFalse(internshipFile.exists());
+
+        assertDoesNotThrow(() -> internships.addInternship(new GeneralInternship("Shopee", "Recruiter", "HR")));
+        manager.commitInternshipChanges(internships);
+        assertEquals(0, journal.length());
+        InternshipList loaded = new InternshipList();
+        new StorageManager(dataDirectory).loadAllData(loaded, new UserProfile());
+        assertEquals(2, loaded.getInternshipMap().get("general").size());
+    }
+
+    @Test
+    void saveProjectData_backgroundWriteFails_keepsProjectsUnsavedAndReportsError()
+            throws IOException, InterruptedException {
+        // A directory in place of the data file makes replacing it fail, whatever the permissions of the user.
+        File projectFile = new File(dataDirectory, "projects.txt");
+        File blocker = new File(projectFile, "blocker");
+        assertTrue(blocker.mkdirs());
+        StorageManager storageManager = new StorageManager(dataDirectory);
+        storageManager.setWriteBehindEnabled(true);
+        ProjectList projects = new ProjectList();
+        projects.addProject(new GeneralProject("Orientation", "Organiser", "Student Life", "Welcome freshmen",
+                "Planned camp activities", "1 month"));
+
+        storageManager.saveProjectData(projects);
+        String failure = waitForWriteBehindFailure(storageManager);
+
+        assertNotNull(failure);
+        assertTrue(failure.contains("projects.txt"));
+        assertNull(storageManager.takeWriteBehindFailure());
+        assertTrue(projects.hasUnsavedProjects());
+        assertFalse(new File(dataDirectory, "projects.txt.tmp").exists());
+
+        assertTrue(blocker.delete() && projectFile.delete());
+        storageManager.flushDeferredSaves();
+        assertFalse(projects.hasUnsavedProjects());
+        assertTrue(projectFile.isFile());
+    }
+
+    private static String waitForWriteBehindFailure(StorageManager storageManager) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WRITE_BEHIND_TIMEOUT_MILLIS;
+        String failure = storageManager.takeWriteBehindFailure();
+        while (failure == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            failure = storageManager.takeWriteBehindFailure();
+        }
+        return failure;
+    }
+
+    /**
+     * Loads the data files with a new storage manager saving in the given format, then saves them, as when
+     * InternSprint is launched with or without {@code --snapshot} and exited.
+     */
+    private void saveAfterLoading(StorageFormat format) throws IOException {
+        StorageManager storageManager = new StorageManager(dataDirectory);
+        storageManager.setSnapshotEnabled(format == StorageFormat.SNAPSHOT);
+        InternshipList internships = new InternshipList();
+        ProjectList projects = new ProjectList();
+        assertTrue(storageManager.loadInternshipData(internships).isSuccessful());
+        assertTrue(storageManager.loadInterviewData(internships).isSuccessful());
+        assertTrue(storageManager.loadProjectData(projects).isSuccessful());
+        assertTrue(internships.hasUnsavedInternships());
+        assertTrue(projects.hasUnsavedProjects());
+
+        storageManager.checkpointInternshipData(internships);
+        storageManager.saveProjectData(projects);
+        assertFalse(internships.hasUnsavedInternships());
+        assertFalse(projects.hasUnsavedProjects());
+    }
+
+    private List<String> readConvertedFiles() throws IOException {
+        return List.of(Files.readString(new File(dataDirectory, "internships.txt").toPath()),
+                Files.readString(new File(dataDirectory, "interviews.txt").toPath()),
+                Files.readString(new File(dataDirectory, "projects.txt").toPath()));
+    }
+}
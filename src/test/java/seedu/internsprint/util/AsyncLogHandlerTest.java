@@ -0,0 +1,108 @@
+package seedu.internsprint.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncLogHandlerTest {
+
+    @Test
+    void close_afterPublishing_writesRecordsInOrder() throws IOException {
+        File file = new File(Files.createTempDirectory("log").toFile(), "test.log");
+        AsyncLogHandler handler = createHandler(file, 1024 * 1024, 1);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.close();
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(100, lines.size());
+        assertEquals("record 0", lines.get(0));
+        assertEquals("record 99", lines.get(99));
+    }
+
+    @Test
+    void publish_pastMaximumFileSize_rotatesFiles() throws IOException {
+        File file = new File(Files.createTempDirectory("log").toFile(), "test.log");
+        AsyncLogHandler handler = createHandler(file, 100, 2);
+
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.close();
+
+        assertTrue(file.length() <= 100);
+        assertTrue(new File(file.getPath() + ".1").exists());
+        assertTrue(new File(file.getPath() + ".2").exists());
+        assertFalse(new File(file.getPath() + ".3").exists());
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals("record 49", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    void publish_fullBuffer_dropsInfoAndWaitsWithWarning() throws IOException, InterruptedException {
+        File file = new File(Files.createTempDirectory("log").toFile(), "test.log");
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        AsyncLogHandler handler = new AsyncLogHandler(file, 2, 1024 * 1024, 1);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                if (record.getMessage().equals("record 0")) {
+                    writerBusy.countDown();
+                    try {
+                        releaseWriter.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+
+        handler.publish(new LogRecord(Level.INFO, "record 0"));
+        assertTrue(writerBusy.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "record 1"));
+        handler.publish(new LogRecord(Level.INFO, "record 2"));
+        handler.publish(new LogRecord(Level.INFO, "record 3"));
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        warningThread.join(200);
+        assertTrue(warningThread.isAlive());
+
+        releaseWriter.countDown();
+        warningThread.join(5000);
+        assertFalse(warningThread.isAlive());
+        handler.close();
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(List.of("record 0", "record 1", "record 2"), lines.subList(0, 3));
+        assertTrue(lines.contains("warning"));
+        assertTrue(lines.contains("1 log records were dropped because the log could not keep up"));
+        assertFalse(lines.contains("record 3"));
+    }
+
+    private static AsyncLogHandler createHandler(File file, long maxFileSize, int maxBackups) {
+        AsyncLogHandler handler = new AsyncLogHandler(file, 1024, maxFileSize, maxBackups);
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        return handler;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.internsprint.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentile_provideSmallValues_returnsExactValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(50, histogram.getCount());
+        assertEquals(1275, histogram.getTotal());
+        assertEquals(25, histogram.getPercentile(50));
+        assertEquals(50, histogram.getPercentile(99));
+        assertEquals(50, histogram.getMax());
+    }
+
+    @Test
+    void getPercentile_provideLargeValues_returnsValueWithinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+
+        long median = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(median >= 500_000_000L && median <= 515_000_000L);
+        assertTrue(p99 >= 990_000_000L && p99 <= 1_000_000_000L);
+        assertEquals(1_000_000_000L, histogram.getMax());
+    }
+
+    @Test
+    void getPercentile_noValuesRecorded_returnsZero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.internsprint.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class TableWriterTest {
+
+    @Test
+    void addRow_provideLongText_wrapsAndJustifiesAllButLastLine() {
+        List<String> lines = new ArrayList<>();
+        TableWriter table = new TableWriter(lines::add, 4, 12);
+        table.addRule();
+        table.addRow("Key", "one two three four");
+        table.addRule();
+        table.finish();
+
+        assertEquals(List.of(
+                "\u250C\u2500\u2500\u2500\u2500\u252C" + "\u2500".repeat(12) + "\u2510",
+                "\u2502Key \u2502one      two\u2502",
+                "\u2502    \u2502three four  \u2502",
+                "\u2514\u2500\u2500\u2500\u2500\u2534" + "\u2500".repeat(12) + "\u2518"), lines);
+    }
+
+    @Test
+    void withEvenWidths_twoColumns_givesLeftoverWidthToFirstColumn() {
+        List<String> lines = new ArrayList<>();
+        TableWriter table = TableWriter.withEvenWidths(lines::add, 2);
+        table.addRule();
+        table.addRow("Name", "John Doe");
+        table.addRule();
+        table.addRow("Role", "Developer");
+        table.addRule();
+        table.finish();
+
+        assertEquals(5, lines.size());
+        assertEquals("\u2502" + String.format("%-39s", "Name") + "\u2502" + String.format("%-38s", "John Doe")
+                + "\u2502", lines.get(1));
+        assertEquals('\u251C', lines.get(2).charAt(0));
+        assertEquals('\u2518', lines.get(4).charAt(79));
+    }
+
+    /**
+     * The expected lines are the sort interviews table that AsciiTable rendered for the user guide.
+     */
+    @Test
+    void addRow_sortInterviewsTable_matchesAsciiTableOutput() throws IOException {
+        List<String> lines = new ArrayList<>();
+        TableWriter table = new TableWriter(lines::add, 12, 12, 12, 10, 10, 10, 20, 35);
+        table.addRule();
+        table.addRow("Company Name", "Role", "Interview Date", "Start Time", "End Time", "Interview Type",
+                "Interviewer Email", "Notes");
+        table.addRule();
+        table.addRow("Google", "Software Engineer", "2021-10-10", "10:00", "11:00", "Coding", "N/A", "N/A");
+        table.addRule();
+        table.addRow("facebook", "intern", "2021-10-11", "10:00", "11:00", "Coding", "N/A", "N/A");
+        table.addRule();
+        table.finish();
+
+        assertEquals(readLines("sort-interviews-table.txt"), lines);
+    }
+
+    /**
+     * The expected lines are the hardware project table that AsciiTable rendered for the user guide, where the
+     * wrapped description is justified with the extra spaces in the rightmost gaps.
+     */
+    @Test
+    void withEvenWidths_hardwareProjectTable_matchesAsciiTableOutput() throws IOException {
+        List<String> lines = new ArrayList<>();
+        TableWriter table = TableWriter.withEvenWidths(lines::add, 2);
+        table.addRule();
+        table.addRow("Project: ", "Team Project for EE2026");
+        table.addRule();
+        table.addRow("Role: ", "Ui Developer");
+        table.addRule();
+        table.addRow("Objectives: ", "To get an A+");
+        table.addRule();
+        table.addRow("Description: ", "Worked at creating pixel art for the UI");
+        table.addRule();
+        table.addRow("Duration: ", "May-August");
+        table.addRule();
+        table.addRow("Hardware Components: ", "Basys Board");
+        table.addRule();
+        table.finish();
+
+        assertEquals(readLines("hardware-project-table.txt"), lines);
+    }
+
+    private static List<String> readLines(String fileName) throws IOException {
+        try (InputStream in = TableWriterTest.class.getResourceAsStream(fileName)) {
+            assertNotNull(in, "Missing test resource " + fileName);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+        }
+    }
+}